@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
 import quizService from '../services/quizService';
+import attemptService from '../services/attemptService';
 import questionService from '../services/questionService';
 import LoadingSpinner from '../components/LoadingSpinner';
 import Modal from '../components/Modal';
@@ -78,8 +79,18 @@ const QuizTake = () => {
     }
   };
 
-  const startQuiz = () => {
-    setQuizStarted(true);
+  const startQuiz = async () => {
+    try {
+      // The server sets the deadline; the timer below only displays it
+      const attempt = await attemptService.startAttempt(parseInt(quizId));
+      if (attempt.deadline) {
+        setTimeLeft(Math.max(0, Math.floor((new Date(attempt.deadline) - Date.now()) / 1000)));
+      }
+      setQuizStarted(true);
+    } catch (err) {
+      setError(typeof err === 'string' ? err : 'Failed to start quiz. Please try again.');
+      console.error('Error starting quiz:', err);
+    }
   };
 
   const handleAnswerChange = (questionId, answer) => {
@@ -136,15 +147,13 @@ const QuizTake = () => {
         }))
       };
 
-      // TODO: Submit to backend when submission endpoint is available
-      console.log('Quiz submission:', submissionData);
+      const result = await attemptService.submitAttempt(submissionData);
 
-      // For now, show success and redirect
-      alert('Quiz submitted successfully!');
+      alert(`Quiz submitted! Score: ${result.score}/${result.maxScore} (${result.percentage.toFixed(1)}%) - ${result.passed ? 'Passed' : 'Not passed'}`);
       navigate('/student-dashboard');
 
     } catch (err) {
-      setError('Failed to submit quiz. Please try again.');
+      setError(typeof err === 'string' ? err : 'Failed to submit quiz. Please try again.');
       console.error('Error submitting quiz:', err);
     } finally {
       setSubmitting(false);
@@ -0,0 +1,27 @@
+import axios from 'axios';
+
+const API_URL = '/api/attempts';
+
+const attemptService = {
+  // Start (or resume) an attempt; returns its server-side deadline, null when untimed
+  async startAttempt(quizId) {
+    try {
+      const response = await axios.post(`${API_URL}/start`, { quizId });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data?.message || error.response?.data || 'Failed to start quiz';
+    }
+  },
+
+  // Submit answers for a quiz; returns the graded attempt
+  async submitAttempt(submissionData) {
+    try {
+      const response = await axios.post(API_URL, submissionData);
+      return response.data;
+    } catch (error) {
+      throw error.response?.data?.message || error.response?.data || 'Failed to submit quiz';
+    }
+  }
+};
+
+export default attemptService;
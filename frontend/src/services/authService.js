@@ -16,13 +16,52 @@ axios.interceptors.request.use(
   }
 );
 
-// Response interceptor to handle token expiration
+const clearSession = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+};
+
+const storeSession = (data) => {
+  if (data.token) {
+    localStorage.setItem('token', data.token);
+    localStorage.setItem('refreshToken', data.refreshToken);
+    localStorage.setItem('user', JSON.stringify(data.user));
+  }
+};
+
+// One refresh at a time; concurrent 401s wait for the same request
+let refreshing = null;
+
+const refreshSession = () => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshing = (refreshToken
+      ? axios.post(`${API_URL}/refresh`, { refreshToken }).then((response) => storeSession(response.data))
+      : Promise.reject(new Error('No refresh token'))
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+// Response interceptor: access tokens are short-lived, so renew once and retry
 axios.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried && !original.url?.startsWith(API_URL)) {
+      original._retried = true;
+      try {
+        await refreshSession();
+        return axios(original);
+      } catch (refreshError) {
+        // fall through to the login redirect
+      }
+    }
     if (error.response?.status === 401) {
-      localStorage.removeItem('token');
-      localStorage.removeItem('user');
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -37,10 +76,7 @@ const authService = {
         password,
       });
       
-      if (response.data.token) {
-        localStorage.setItem('token', response.data.token);
-        localStorage.setItem('user', JSON.stringify(response.data.user));
-      }
+      storeSession(response.data);
       
       return response.data;
     } catch (error) {
@@ -52,10 +88,7 @@ const authService = {
     try {
       const response = await axios.post(`${API_URL}/register`, userData);
       
-      if (response.data.token) {
-        localStorage.setItem('token', response.data.token);
-        localStorage.setItem('user', JSON.stringify(response.data.user));
-      }
+      storeSession(response.data);
       
       return response.data;
     } catch (error) {
@@ -64,8 +97,15 @@ const authService = {
   },
 
   logout() {
-    localStorage.removeItem('token');
-    localStorage.removeItem('user');
+    const token = this.getToken();
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (token) {
+      // Best effort: revoke both tokens server-side (header set here, storage is cleared below)
+      axios
+        .post(`${API_URL}/logout`, { refreshToken }, { headers: { Authorization: `Bearer ${token}` } })
+        .catch(() => {});
+    }
+    clearSession();
   },
 
   getCurrentUser() {
@@ -2,8 +2,10 @@ package com.example.quiz_boot;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class QuizBootApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,61 @@
+package com.example.quiz_boot.modules.attempt.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.quiz_boot.modules.attempt.dto.request.AttemptStartDto;
+import com.example.quiz_boot.modules.attempt.dto.request.AttemptSubmissionDto;
+import com.example.quiz_boot.modules.attempt.dto.response.AttemptResultDto;
+import com.example.quiz_boot.modules.attempt.dto.response.OpenAttemptDto;
+import com.example.quiz_boot.modules.attempt.service.AttemptService;
+import com.example.quiz_boot.modules.user.service.UserPrincipal;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller for quiz attempts.
+ * Submissions are graded immediately and recorded for the authenticated user.
+ * Timed quizzes are started first, which sets the server-side deadline.
+ */
+@RestController
+@RequestMapping("/api/attempts")
+public class AttemptController {
+
+  private final AttemptService attemptService;
+
+  public AttemptController(AttemptService attemptService) {
+    this.attemptService = attemptService;
+  }
+
+  /**
+   * Starts an attempt on a quiz, or returns the one already open.
+   *
+   * @param principal the authenticated user
+   * @param request   quiz ID
+   * @return the open attempt and its deadline (null when the quiz is not timed)
+   */
+  @PostMapping("/start")
+  public ResponseEntity<OpenAttemptDto> startAttempt(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestBody @Valid AttemptStartDto request) {
+    return ResponseEntity.ok(attemptService.start(principal.getId(), request));
+  }
+
+  /**
+   * Submits answers for a quiz.
+   *
+   * @param principal  the authenticated user
+   * @param submission quiz ID and the answers given
+   * @return the graded attempt with HTTP 201 status
+   */
+  @PostMapping
+  public ResponseEntity<AttemptResultDto> submitAttempt(@AuthenticationPrincipal UserPrincipal principal,
+      @RequestBody @Valid AttemptSubmissionDto submission) {
+    AttemptResultDto result = attemptService.submit(principal.getId(), submission);
+    return ResponseEntity.status(HttpStatus.CREATED).body(result);
+  }
+}
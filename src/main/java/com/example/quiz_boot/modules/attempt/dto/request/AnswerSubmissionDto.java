@@ -0,0 +1,20 @@
+package com.example.quiz_boot.modules.attempt.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class AnswerSubmissionDto {
+
+  @NotNull(message = "Question ID is required")
+  private Long questionId;
+
+  @Size(max = 1000, message = "Answer cannot exceed 1000 characters")
+  private String answer;
+
+  @Size(max = 20, message = "Cannot select more than 20 options")
+  private List<String> selectedOptions;
+}
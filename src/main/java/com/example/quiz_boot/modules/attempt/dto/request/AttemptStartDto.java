@@ -0,0 +1,13 @@
+package com.example.quiz_boot.modules.attempt.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class AttemptStartDto {
+
+  @NotNull(message = "Quiz ID is required")
+  @Positive(message = "Quiz ID must be positive")
+  private Long quizId;
+}
@@ -0,0 +1,22 @@
+package com.example.quiz_boot.modules.attempt.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class AttemptSubmissionDto {
+
+  @NotNull(message = "Quiz ID is required")
+  @Positive(message = "Quiz ID must be positive")
+  private Long quizId;
+
+  @NotNull(message = "Answers are required")
+  @Size(max = 100, message = "A quiz cannot have more than 100 answers")
+  @Valid
+  private List<AnswerSubmissionDto> answers;
+}
@@ -0,0 +1,19 @@
+package com.example.quiz_boot.modules.attempt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Grading of one question. {@code correct} is null when the question has no
+ * stored answer key and was left out of the score.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnswerResultDto {
+  private Long questionId;
+  private Boolean correct;
+  private int pointsAwarded;
+  private int points;
+}
@@ -0,0 +1,25 @@
+package com.example.quiz_boot.modules.attempt.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AttemptResultDto {
+  private String submissionId;
+  private Long quizId;
+  private int attemptNumber; // Provisional until stored; see AttemptBatchWriter
+  private int score;
+  private int maxScore;
+  private double percentage;
+  private double passingScore;
+  private boolean passed;
+  private int ungradedQuestions;
+  private List<AnswerResultDto> answers;
+  private Instant submittedAt;
+}
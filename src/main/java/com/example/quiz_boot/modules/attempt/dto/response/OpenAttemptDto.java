@@ -0,0 +1,18 @@
+package com.example.quiz_boot.modules.attempt.dto.response;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OpenAttemptDto {
+  private String submissionId;
+  private Long quizId;
+  private Instant startedAt;
+  // Null for quizzes without a time limit
+  private Instant deadline;
+}
@@ -0,0 +1,11 @@
+package com.example.quiz_boot.modules.attempt.exception;
+
+public class AttemptLimitExceededException extends RuntimeException {
+  public AttemptLimitExceededException(String message) {
+    super(message);
+  }
+
+  public AttemptLimitExceededException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
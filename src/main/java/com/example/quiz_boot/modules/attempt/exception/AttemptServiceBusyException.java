@@ -0,0 +1,11 @@
+package com.example.quiz_boot.modules.attempt.exception;
+
+public class AttemptServiceBusyException extends RuntimeException {
+  public AttemptServiceBusyException(String message) {
+    super(message);
+  }
+
+  public AttemptServiceBusyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,11 @@
+package com.example.quiz_boot.modules.attempt.exception;
+
+public class InvalidAttemptException extends RuntimeException {
+  public InvalidAttemptException(String message) {
+    super(message);
+  }
+
+  public InvalidAttemptException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.quiz_boot.modules.attempt.model;
+
+import java.time.Instant;
+
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.shared.Base.BaseEntity;
+import com.example.quiz_boot.modules.user.model.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A timed attempt that has been started and not yet submitted. The row is
+ * removed once the attempt is submitted or finalized at its deadline; rows
+ * left over from a previous run are scheduled again on startup.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "open_attempts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_open_attempt_user_quiz", columnNames = { "user_id", "quiz_id" }),
+    @UniqueConstraint(name = "uk_open_attempt_submission", columnNames = { "submission_id" })
+})
+public class OpenAttempt extends BaseEntity {
+
+  // Becomes the submission ID of the recorded attempt
+  @Column(nullable = false, length = 36)
+  private String submissionId;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id")
+  private User user;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "quiz_id")
+  private Quiz quiz;
+
+  @Column(nullable = false)
+  private Instant startedAt;
+
+  @Column(nullable = false)
+  private Instant deadline;
+}
@@ -0,0 +1,60 @@
+package com.example.quiz_boot.modules.attempt.model;
+
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.shared.Base.BaseEntity;
+import com.example.quiz_boot.modules.user.model.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "quiz_attempts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attempt_user_quiz_number", columnNames = { "user_id", "quiz_id", "attempt_number" }),
+    @UniqueConstraint(name = "uk_attempt_submission", columnNames = { "submission_id" })
+}, indexes = {
+    @jakarta.persistence.Index(name = "idx_attempt_quiz", columnList = "quiz_id")
+})
+public class QuizAttempt extends BaseEntity {
+
+  // Assigned when the attempt is accepted, before it is stored
+  @Column(nullable = false, length = 36)
+  private String submissionId;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id")
+  private User user;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "quiz_id")
+  private Quiz quiz;
+
+  @Column(nullable = false)
+  private int attemptNumber;
+
+  @Column(nullable = false)
+  private int score;
+
+  @Column(nullable = false)
+  private int maxScore;
+
+  @Column(nullable = false)
+  private double percentage;
+
+  @Column(nullable = false)
+  private boolean passed;
+
+  // Submitted answers as JSON, kept for review and regrading
+  @Lob
+  @Column(nullable = false)
+  private String answers;
+}
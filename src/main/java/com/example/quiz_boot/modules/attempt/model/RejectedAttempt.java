@@ -0,0 +1,67 @@
+package com.example.quiz_boot.modules.attempt.model;
+
+import java.time.Instant;
+
+import com.example.quiz_boot.modules.shared.Base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Dead letter for an attempt that was acknowledged to the user but could not
+ * be stored as a quiz attempt (attempt limit reached across instances, user
+ * or quiz deleted meanwhile). Kept as submitted, with the reason, for review.
+ * User and quiz are plain IDs since either may no longer exist.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "quiz_attempt_rejects", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attempt_reject_submission", columnNames = { "submission_id" })
+})
+public class RejectedAttempt extends BaseEntity {
+
+  public static final String ATTEMPT_LIMIT = "ATTEMPT_LIMIT";
+  public static final String QUIZ_NOT_FOUND = "QUIZ_NOT_FOUND";
+  public static final String USER_NOT_FOUND = "USER_NOT_FOUND";
+  public static final String CONSTRAINT = "CONSTRAINT";
+
+  @Column(nullable = false, length = 36)
+  private String submissionId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Long quizId;
+
+  @Column(nullable = false)
+  private int score;
+
+  @Column(nullable = false)
+  private int maxScore;
+
+  @Column(nullable = false)
+  private double percentage;
+
+  @Column(nullable = false)
+  private boolean passed;
+
+  @Lob
+  @Column(nullable = false)
+  private String answers;
+
+  @Column(nullable = false)
+  private Instant submittedAt;
+
+  @Column(nullable = false, length = 20)
+  private String reason; // ATTEMPT_LIMIT, QUIZ_NOT_FOUND, USER_NOT_FOUND, CONSTRAINT
+
+  @Column(length = 500)
+  private String detail;
+}
@@ -0,0 +1,50 @@
+package com.example.quiz_boot.modules.attempt.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.quiz_boot.modules.attempt.model.OpenAttempt;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface OpenAttemptRepository extends JpaRepository<OpenAttempt, Long> {
+
+  // Read on startup to rebuild the deadline wheel; no entities are loaded
+  @Query("SELECT a.id AS id, a.submissionId AS submissionId, a.user.id AS userId, a.quiz.id AS quizId, "
+      + "a.startedAt AS startedAt, a.deadline AS deadline FROM OpenAttempt a")
+  List<OpenAttemptView> findAllOpen();
+
+  // Served by uk_open_attempt_user_quiz
+  @Query("SELECT a.id AS id, a.submissionId AS submissionId, a.user.id AS userId, a.quiz.id AS quizId, "
+      + "a.startedAt AS startedAt, a.deadline AS deadline FROM OpenAttempt a "
+      + "WHERE a.user.id = :userId AND a.quiz.id = :quizId")
+  Optional<OpenAttemptView> findOpen(@Param("userId") Long userId, @Param("quizId") Long quizId);
+
+  // Claims an open attempt: of concurrent callers on any instance, only one gets 1
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM OpenAttempt a WHERE a.submissionId = :submissionId")
+  int deleteBySubmissionId(@Param("submissionId") String submissionId);
+
+  interface OpenAttemptView {
+    Long getId();
+
+    String getSubmissionId();
+
+    Long getUserId();
+
+    Long getQuizId();
+
+    Instant getStartedAt();
+
+    Instant getDeadline();
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.quiz_boot.modules.attempt.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.quiz_boot.modules.attempt.model.QuizAttempt;
+
+@Repository
+public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
+
+  // Served by the (user_id, quiz_id, attempt_number) unique index
+  @Query("SELECT COALESCE(MAX(a.attemptNumber), 0) FROM QuizAttempt a "
+      + "WHERE a.user.id = :userId AND a.quiz.id = :quizId")
+  int findHighestAttemptNumber(@Param("userId") Long userId, @Param("quizId") Long quizId);
+}
@@ -0,0 +1,174 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionOptionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.service.QuizContent;
+
+/**
+ * Immutable grading view of one quiz, compiled once from its cached content.
+ * Questions are kept in quiz order as parallel arrays; the options of
+ * question {@code q} occupy {@code [optionStart[q], optionStart[q + 1])} of
+ * the flattened option arrays, and the correct ones are a bit mask over those
+ * positions. Question ids are also kept sorted for binary-search lookup.
+ */
+final class AnswerKey {
+
+  /** Selected set must equal the correct set (multiple choice, true/false) */
+  static final byte EXACT_SET = 0;
+  /** Answer must name one of the correct options */
+  static final byte ANY_CORRECT = 1;
+  /** No correct option stored; left out of the score */
+  static final byte UNGRADED = 2;
+
+  static final int MAX_OPTIONS_PER_QUESTION = Long.SIZE;
+
+  final long quizId;
+  final double passingScore;
+  final int maxAttempts;
+  final Instant availableFrom;
+  final Instant availableUntil;
+  /** Null when the quiz is not timed */
+  final Duration timeLimit;
+
+  final long[] questionIds;
+  final int[] points;
+  final byte[] modes;
+  final long[] correctMasks;
+  final int[] optionStart;
+  final long[] optionIds;
+  final String[] optionTexts;
+
+  private final long[] sortedQuestionIds;
+  private final int[] sortedPositions;
+
+  private AnswerKey(QuizDetailDto quiz, List<QuestionResponseDto> questions, int optionCount) {
+    int n = questions.size();
+    this.quizId = quiz.getId();
+    this.passingScore = quiz.getPassingScore();
+    this.maxAttempts = quiz.getMaxAttempts();
+    this.availableFrom = quiz.getAvailableFrom();
+    this.availableUntil = quiz.getAvailableUntil();
+    this.timeLimit = quiz.getDuration() > 0 ? Duration.ofHours(quiz.getDuration()) : null;
+    this.questionIds = new long[n];
+    this.points = new int[n];
+    this.modes = new byte[n];
+    this.correctMasks = new long[n];
+    this.optionStart = new int[n + 1];
+    this.optionIds = new long[optionCount];
+    this.optionTexts = new String[optionCount];
+
+    int next = 0;
+    for (int q = 0; q < n; q++) {
+      QuestionResponseDto question = questions.get(q);
+      List<QuestionOptionResponseDto> options = question.getOptions() != null ? question.getOptions() : List.of();
+      if (options.size() > MAX_OPTIONS_PER_QUESTION) {
+        throw new IllegalArgumentException("Question " + question.getId() + " has more than "
+            + MAX_OPTIONS_PER_QUESTION + " options");
+      }
+      questionIds[q] = question.getId();
+      points[q] = question.getPoints();
+      optionStart[q] = next;
+      long mask = 0;
+      for (int o = 0; o < options.size(); o++) {
+        QuestionOptionResponseDto option = options.get(o);
+        optionIds[next + o] = option.getId();
+        optionTexts[next + o] = option.getOptionText() != null ? option.getOptionText().trim() : "";
+        if (option.isCorrect()) {
+          mask |= 1L << o;
+        }
+      }
+      next += options.size();
+      correctMasks[q] = mask;
+      modes[q] = mask == 0 ? UNGRADED : isChoice(question.getQuestionType()) ? EXACT_SET : ANY_CORRECT;
+    }
+    optionStart[n] = next;
+
+    // Sort question positions by id for lookup
+    this.sortedQuestionIds = new long[n];
+    this.sortedPositions = new int[n];
+    Integer[] order = new Integer[n];
+    for (int q = 0; q < n; q++) {
+      order[q] = q;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(questionIds[a], questionIds[b]));
+    for (int i = 0; i < n; i++) {
+      sortedQuestionIds[i] = questionIds[order[i]];
+      sortedPositions[i] = order[i];
+    }
+  }
+
+  static AnswerKey compile(QuizContent content) {
+    List<QuestionResponseDto> questions = content.questions() != null ? content.questions() : List.of();
+    int optionCount = 0;
+    for (QuestionResponseDto question : questions) {
+      optionCount += question.getOptions() != null ? question.getOptions().size() : 0;
+    }
+    return new AnswerKey(content.detail(), questions, optionCount);
+  }
+
+  int questionCount() {
+    return questionIds.length;
+  }
+
+  /**
+   * @return position of the question in quiz order, or -1 when it is not part of this quiz
+   */
+  int positionOf(long questionId) {
+    int i = Arrays.binarySearch(sortedQuestionIds, questionId);
+    return i >= 0 ? sortedPositions[i] : -1;
+  }
+
+  /**
+   * Resolves a submitted option, given by text (case-insensitive) or by id,
+   * to its bit within question {@code q}.
+   *
+   * @return the option bit, or 0 when it matches no option of the question
+   */
+  long optionBit(int q, String selection) {
+    int from = optionStart[q];
+    int to = optionStart[q + 1];
+    String text = selection.strip();
+    for (int i = from; i < to; i++) {
+      if (optionTexts[i].equalsIgnoreCase(text)) {
+        return 1L << (i - from);
+      }
+    }
+    long id = parseId(text);
+    if (id >= 0) {
+      for (int i = from; i < to; i++) {
+        if (optionIds[i] == id) {
+          return 1L << (i - from);
+        }
+      }
+    }
+    return 0;
+  }
+
+  private static long parseId(String text) {
+    int length = text.length();
+    if (length == 0 || length > 18) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isChoice(String questionType) {
+    String type = questionType != null ? questionType.toUpperCase(Locale.ROOT) : "";
+    return type.equals("MULTIPLE_CHOICE") || type.equals("TRUE_FALSE");
+  }
+}
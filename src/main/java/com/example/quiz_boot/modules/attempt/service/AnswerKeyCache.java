@@ -0,0 +1,51 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.quiz.service.QuizContentCache;
+import com.example.quiz_boot.modules.quiz.service.QuizService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Compiled answer keys by quiz ID, built from the cached quiz content on first
+ * use. Entries are dropped whenever the quiz content cache drops the quiz,
+ * which every quiz, question and category write already does, so a key
+ * never outlives the content it was compiled from. Metrics are published
+ * under "quiz.answer-keys".
+ */
+@Component
+public class AnswerKeyCache {
+
+  private final Cache<Long, AnswerKey> cache;
+  private final QuizService quizService;
+
+  public AnswerKeyCache(QuizService quizService, QuizContentCache quizContentCache, MeterRegistry meterRegistry,
+      @Value("${app.cache.answer-keys.max-size:10000}") long maxSize) {
+    this.quizService = quizService;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "quiz.answer-keys");
+    quizContentCache.addInvalidationListener(quizId -> {
+      if (quizId == null) {
+        cache.invalidateAll();
+      } else {
+        cache.invalidate(quizId);
+      }
+    });
+  }
+
+  AnswerKey get(Long quizId) {
+    return cache.get(quizId, id -> AnswerKey.compile(quizService.getQuizContent(id)));
+  }
+
+  boolean isCached(Long quizId) {
+    return cache.getIfPresent(quizId) != null;
+  }
+}
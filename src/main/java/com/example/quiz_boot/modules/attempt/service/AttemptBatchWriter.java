@@ -0,0 +1,237 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.attempt.model.RejectedAttempt;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Stores graded attempts with one JDBC batch per call.
+ * Attempt numbers are assigned here, as the highest stored number plus one,
+ * and the quiz's attempt limit is enforced here too, so the stored rows are
+ * right however many instances accepted attempts concurrently. An attempt
+ * that cannot be stored (over the limit, user or quiz deleted) was already
+ * acknowledged to the user, so it goes to the quiz_attempt_rejects dead
+ * letter table in the same transaction instead of being dropped.
+ * Rows already stored or dead-lettered (by submission ID) are skipped, so a
+ * batch can be retried, or replayed from the journal after a crash, without
+ * duplicates. Each call runs in its own transaction so a failed batch rolls
+ * back alone. Storing an attempt also closes its open attempt (same
+ * submission ID) in that transaction, so a deadline can never finalize it a
+ * second time.
+ */
+@Component
+public class AttemptBatchWriter {
+
+  private static final String SELECT_EXISTING = "SELECT submission_id FROM quiz_attempts "
+      + "WHERE submission_id IN (:submissionIds) "
+      + "UNION SELECT submission_id FROM quiz_attempt_rejects WHERE submission_id IN (:submissionIds)";
+
+  // Locking read: an instance finalizing or submitting the same rows waits, then no longer finds them
+  private static final String SELECT_OPEN = "SELECT submission_id FROM open_attempts "
+      + "WHERE submission_id IN (:submissionIds) FOR UPDATE";
+
+  private static final String DELETE_OPEN = "DELETE FROM open_attempts WHERE submission_id IN (:submissionIds)";
+
+  private static final String SELECT_QUIZ_LIMITS = "SELECT id, max_attempts FROM quizzes WHERE id IN (:quizIds)";
+
+  private static final String SELECT_USERS = "SELECT id FROM users WHERE id IN (:userIds)";
+
+  // Superset of the batch's (user, quiz) pairs; matched in memory
+  private static final String SELECT_HIGHEST = "SELECT user_id, quiz_id, MAX(attempt_number) AS highest "
+      + "FROM quiz_attempts WHERE user_id IN (:userIds) AND quiz_id IN (:quizIds) GROUP BY user_id, quiz_id";
+
+  private static final String INSERT_ATTEMPT = "INSERT INTO quiz_attempts "
+      + "(submission_id, user_id, quiz_id, attempt_number, score, max_score, percentage, passed, answers, "
+      + "created_at, updated_at) "
+      + "VALUES (:submissionId, :userId, :quizId, :attemptNumber, :score, :maxScore, :percentage, :passed, "
+      + ":answers, :submittedAt, :submittedAt)";
+
+  private static final String INSERT_REJECT = "INSERT INTO quiz_attempt_rejects "
+      + "(submission_id, user_id, quiz_id, score, max_score, percentage, passed, answers, submitted_at, reason, "
+      + "detail, created_at, updated_at) "
+      + "VALUES (:submissionId, :userId, :quizId, :score, :maxScore, :percentage, :passed, :answers, :submittedAt, "
+      + ":reason, :detail, :now, :now)";
+
+  /**
+   * A graded attempt accepted from a user, waiting to be stored. The attempt
+   * number is this instance's estimate; the stored number is assigned on insert.
+   */
+  public record PendingAttempt(String submissionId, Long userId, Long quizId, int attemptNumber, int score,
+      int maxScore, double percentage, boolean passed, String answers, Instant submittedAt) {
+  }
+
+  /**
+   * Rows stored as attempts and rows moved to the dead letter table
+   */
+  public record Outcome(int stored, int rejected) {
+  }
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public AttemptBatchWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public Outcome insert(List<PendingAttempt> attempts) {
+    return store(attempts);
+  }
+
+  /**
+   * Records attempts whose deadline passed and closes their open attempts.
+   * Attempts no longer open (submitted, or finalized by another instance)
+   * are skipped, so only one instance records each; the open
+   * attempts listed in {@code discardedSubmissionIds} are closed without
+   * recording anything.
+   *
+   * @return number of rows stored as attempts
+   */
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public int finalizeExpired(List<PendingAttempt> attempts, List<String> discardedSubmissionIds) {
+    if (!discardedSubmissionIds.isEmpty()) {
+      jdbcTemplate.update(DELETE_OPEN, new MapSqlParameterSource("submissionIds", discardedSubmissionIds));
+    }
+    if (attempts.isEmpty()) {
+      return 0;
+    }
+    Set<String> open = select(SELECT_OPEN, attempts.stream().map(PendingAttempt::submissionId).toList());
+    return store(attempts.stream().filter(attempt -> open.contains(attempt.submissionId())).toList()).stored();
+  }
+
+  /**
+   * Moves one attempt to the dead letter table, e.g. after it kept failing a
+   * constraint on its own
+   */
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public void reject(PendingAttempt attempt, String reason, String detail) {
+    if (select(SELECT_EXISTING, List.of(attempt.submissionId())).isEmpty()) {
+      insertRejects(List.of(rejectParams(attempt, reason, detail)));
+    }
+    jdbcTemplate.update(DELETE_OPEN, new MapSqlParameterSource("submissionIds", List.of(attempt.submissionId())));
+  }
+
+  private Outcome store(List<PendingAttempt> attempts) {
+    if (attempts.isEmpty()) {
+      return new Outcome(0, 0);
+    }
+
+    List<String> submissionIds = attempts.stream().map(PendingAttempt::submissionId).toList();
+    Set<String> existing = select(SELECT_EXISTING, submissionIds);
+    Map<String, PendingAttempt> fresh = new LinkedHashMap<>();
+    for (PendingAttempt attempt : attempts) {
+      if (!existing.contains(attempt.submissionId())) {
+        fresh.putIfAbsent(attempt.submissionId(), attempt);
+      }
+    }
+
+    List<MapSqlParameterSource> inserts = new ArrayList<>(fresh.size());
+    List<MapSqlParameterSource> rejects = new ArrayList<>();
+    if (!fresh.isEmpty()) {
+      Set<Long> userIds = new HashSet<>();
+      Set<Long> quizIds = new HashSet<>();
+      for (PendingAttempt attempt : fresh.values()) {
+        userIds.add(attempt.userId());
+        quizIds.add(attempt.quizId());
+      }
+      MapSqlParameterSource ids = new MapSqlParameterSource("userIds", userIds).addValue("quizIds", quizIds);
+
+      Map<Long, Integer> limits = new HashMap<>();
+      jdbcTemplate.query(SELECT_QUIZ_LIMITS, ids, rs -> {
+        limits.put(rs.getLong("id"), rs.getInt("max_attempts"));
+      });
+      Set<Long> users = new HashSet<>();
+      jdbcTemplate.query(SELECT_USERS, ids, rs -> {
+        users.add(rs.getLong("id"));
+      });
+      Map<Key, Integer> highest = new HashMap<>();
+      jdbcTemplate.query(SELECT_HIGHEST, ids, rs -> {
+        highest.put(new Key(rs.getLong("user_id"), rs.getLong("quiz_id")), rs.getInt("highest"));
+      });
+
+      for (PendingAttempt attempt : fresh.values()) {
+        Integer limit = limits.get(attempt.quizId());
+        if (limit == null) {
+          rejects.add(rejectParams(attempt, RejectedAttempt.QUIZ_NOT_FOUND, null));
+          continue;
+        }
+        if (!users.contains(attempt.userId())) {
+          rejects.add(rejectParams(attempt, RejectedAttempt.USER_NOT_FOUND, null));
+          continue;
+        }
+        Key key = new Key(attempt.userId(), attempt.quizId());
+        int number = highest.getOrDefault(key, 0) + 1;
+        if (number > limit) {
+          rejects.add(rejectParams(attempt, RejectedAttempt.ATTEMPT_LIMIT,
+              "Attempt " + number + " exceeds the limit of " + limit));
+          continue;
+        }
+        highest.put(key, number);
+        inserts.add(new MapSqlParameterSource()
+            .addValue("submissionId", attempt.submissionId())
+            .addValue("userId", attempt.userId())
+            .addValue("quizId", attempt.quizId())
+            .addValue("attemptNumber", number)
+            .addValue("score", attempt.score())
+            .addValue("maxScore", attempt.maxScore())
+            .addValue("percentage", attempt.percentage())
+            .addValue("passed", attempt.passed())
+            .addValue("answers", attempt.answers())
+            .addValue("submittedAt", Timestamp.from(attempt.submittedAt())));
+      }
+    }
+
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_ATTEMPT, inserts.toArray(MapSqlParameterSource[]::new));
+    }
+    insertRejects(rejects);
+    jdbcTemplate.update(DELETE_OPEN, new MapSqlParameterSource("submissionIds", submissionIds));
+    return new Outcome(inserts.size(), rejects.size());
+  }
+
+  private void insertRejects(List<MapSqlParameterSource> rejects) {
+    if (!rejects.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_REJECT, rejects.toArray(MapSqlParameterSource[]::new));
+    }
+  }
+
+  private static MapSqlParameterSource rejectParams(PendingAttempt attempt, String reason, String detail) {
+    return new MapSqlParameterSource()
+        .addValue("submissionId", attempt.submissionId())
+        .addValue("userId", attempt.userId())
+        .addValue("quizId", attempt.quizId())
+        .addValue("score", attempt.score())
+        .addValue("maxScore", attempt.maxScore())
+        .addValue("percentage", attempt.percentage())
+        .addValue("passed", attempt.passed())
+        .addValue("answers", attempt.answers())
+        .addValue("submittedAt", Timestamp.from(attempt.submittedAt()))
+        .addValue("reason", reason)
+        .addValue("detail", detail != null && detail.length() > 500 ? detail.substring(0, 500) : detail)
+        .addValue("now", Timestamp.from(Instant.now()));
+  }
+
+  private Set<String> select(String sql, List<String> submissionIds) {
+    Set<String> found = new HashSet<>();
+    jdbcTemplate.query(sql, new MapSqlParameterSource("submissionIds", submissionIds), rs -> {
+      found.add(rs.getString("submission_id"));
+    });
+    return found;
+  }
+
+  private record Key(long userId, long quizId) {
+  }
+}
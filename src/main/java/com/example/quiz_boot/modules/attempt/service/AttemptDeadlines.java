@@ -0,0 +1,281 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.attempt.exception.AttemptLimitExceededException;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository.OpenAttemptView;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptGrader.GradedAttempt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Server-side deadlines of open timed attempts. Each open attempt has one
+ * timer in a hierarchical timing wheel, so scheduling, cancelling on
+ * submission and expiry are O(1) however many attempts are running. A
+ * submission is accepted until the deadline plus a grace period, which
+ * covers the browser's own auto-submit; after that the attempt is finalized
+ * as submitted with no answers, in batches, in the same transaction that
+ * closes its open attempt.
+ * The stored open attempt is the source of truth; the wheel only says when
+ * to look at it. An attempt started on another instance is loaded from the
+ * database on a wheel miss (and scheduled here too), and both a submission
+ * and finalization claim the stored row, by deleting it or with a locking
+ * read, so with several instances, or the same row on several wheels after
+ * a restart, each attempt is closed exactly once.
+ * Metrics: quiz.attempts.deadlines.open, quiz.attempts.deadlines.expired and
+ * the quiz.attempts.deadlines.finalize timer (per batch).
+ */
+@Component
+public class AttemptDeadlines {
+  private static final Logger logger = LoggerFactory.getLogger(AttemptDeadlines.class);
+
+  private static final int SLOT_BITS = 6;
+  private static final int LEVELS = 4;
+
+  /**
+   * An open attempt and when its time runs out
+   */
+  record Deadline(String submissionId, Long userId, Long quizId, Instant startedAt, Instant deadline) {
+  }
+
+  /**
+   * Result of claiming an open attempt for submission
+   */
+  enum Claim {
+    CLAIMED,
+    // Past its grace period; left for finalization
+    CLOSED,
+    // No longer stored: submitted or finalized, possibly on another instance
+    GONE
+  }
+
+  private final OpenAttemptRepository openAttemptRepository;
+  private final AnswerKeyCache answerKeyCache;
+  private final AttemptGrader attemptGrader;
+  private final AttemptWriteBehind attemptWriteBehind;
+  private final AttemptBatchWriter batchWriter;
+  private final Duration tick;
+  private final Duration grace;
+  private final Duration retryBackoff;
+  private final int batchSize;
+
+  // Both guarded by this
+  private final TimingWheel<Deadline> wheel;
+  private final Map<Key, TimingWheel.Timer<Deadline>> timers = new HashMap<>();
+
+  private final Counter expired;
+  private final Timer finalizeTime;
+
+  public AttemptDeadlines(OpenAttemptRepository openAttemptRepository, AnswerKeyCache answerKeyCache,
+      AttemptGrader attemptGrader, AttemptWriteBehind attemptWriteBehind, AttemptBatchWriter batchWriter,
+      MeterRegistry meterRegistry,
+      @Value("${app.attempts.deadlines.tick:1s}") Duration tick,
+      @Value("${app.attempts.deadlines.grace:30s}") Duration grace,
+      @Value("${app.attempts.deadlines.retry-backoff:5s}") Duration retryBackoff,
+      @Value("${app.attempts.deadlines.batch-size:500}") int batchSize) {
+    this.openAttemptRepository = openAttemptRepository;
+    this.answerKeyCache = answerKeyCache;
+    this.attemptGrader = attemptGrader;
+    this.attemptWriteBehind = attemptWriteBehind;
+    this.batchWriter = batchWriter;
+    this.tick = tick;
+    this.grace = grace;
+    this.retryBackoff = retryBackoff;
+    this.batchSize = batchSize;
+    // 64 slots per level and 4 levels cover 2^24 ticks (194 days at 1s)
+    this.wheel = new TimingWheel<>(tick.toMillis(), SLOT_BITS, LEVELS, System.currentTimeMillis());
+
+    Gauge.builder("quiz.attempts.deadlines.open", this, AttemptDeadlines::size).register(meterRegistry);
+    this.expired = Counter.builder("quiz.attempts.deadlines.expired").register(meterRegistry);
+    this.finalizeTime = Timer.builder("quiz.attempts.deadlines.finalize").register(meterRegistry);
+  }
+
+  /**
+   * Schedules every stored open attempt, so those left by a stopped
+   * instance are still closed; those already past their deadline are
+   * finalized on the first tick. Rows other instances also hold are closed
+   * by whichever claims them first.
+   */
+  @PostConstruct
+  public void rebuild() {
+    List<OpenAttemptView> open = openAttemptRepository.findAllOpen();
+    for (OpenAttemptView view : open) {
+      schedule(new Deadline(view.getSubmissionId(), view.getUserId(), view.getQuizId(), view.getStartedAt(),
+          view.getDeadline()));
+    }
+    if (!open.isEmpty()) {
+      logger.info("AUDIT: Rescheduled {} open attempts", open.size());
+    }
+  }
+
+  /**
+   * @return the open attempt scheduled here, else the stored one
+   */
+  Deadline find(Long userId, Long quizId) {
+    synchronized (this) {
+      TimingWheel.Timer<Deadline> timer = timers.get(new Key(userId, quizId));
+      if (timer != null) {
+        return timer.value;
+      }
+    }
+    return load(userId, quizId);
+  }
+
+  /**
+   * Reads the stored open attempt and schedules it here as well, replacing
+   * whatever this instance had for the same user and quiz
+   */
+  Deadline load(Long userId, Long quizId) {
+    Deadline deadline = openAttemptRepository.findOpen(userId, quizId)
+        .map(view -> new Deadline(view.getSubmissionId(), userId, quizId, view.getStartedAt(), view.getDeadline()))
+        .orElse(null);
+    if (deadline != null) {
+      schedule(deadline);
+    } else {
+      synchronized (this) {
+        TimingWheel.Timer<Deadline> stale = timers.remove(new Key(userId, quizId));
+        if (stale != null) {
+          wheel.cancel(stale);
+        }
+      }
+    }
+    return deadline;
+  }
+
+  void schedule(Deadline deadline) {
+    add(deadline, closesAt(deadline).toEpochMilli());
+  }
+
+  /**
+   * Claims an open attempt for submission by deleting its stored row, and
+   * takes it off this instance's wheel
+   */
+  Claim claim(Deadline deadline, Instant at) {
+    if (isClosed(deadline, at)) {
+      return Claim.CLOSED;
+    }
+    int deleted = openAttemptRepository.deleteBySubmissionId(deadline.submissionId());
+    synchronized (this) {
+      Key key = new Key(deadline.userId(), deadline.quizId());
+      TimingWheel.Timer<Deadline> timer = timers.get(key);
+      if (timer != null && timer.value.submissionId().equals(deadline.submissionId())) {
+        timers.remove(key);
+        wheel.cancel(timer);
+      }
+    }
+    return deleted == 1 ? Claim.CLAIMED : Claim.GONE;
+  }
+
+  /**
+   * @return whether the attempt no longer takes submissions at {@code at}
+   */
+  boolean isClosed(Deadline deadline, Instant at) {
+    return at.isAfter(closesAt(deadline));
+  }
+
+  @Scheduled(fixedDelayString = "${app.attempts.deadlines.tick:1s}")
+  public void finalizeExpired() {
+    List<Deadline> due;
+    synchronized (this) {
+      due = wheel.advance(System.currentTimeMillis());
+      for (Deadline deadline : due) {
+        timers.remove(new Key(deadline.userId(), deadline.quizId()));
+      }
+    }
+    for (int from = 0; from < due.size(); from += batchSize) {
+      finalizeBatch(due.subList(from, Math.min(due.size(), from + batchSize)));
+    }
+  }
+
+  int size() {
+    synchronized (this) {
+      return wheel.size();
+    }
+  }
+
+  private Instant closesAt(Deadline deadline) {
+    return deadline.deadline().plus(grace);
+  }
+
+  private void add(Deadline deadline, long fireAtMillis) {
+    synchronized (this) {
+      Key key = new Key(deadline.userId(), deadline.quizId());
+      TimingWheel.Timer<Deadline> previous = timers.put(key, wheel.schedule(deadline, fireAtMillis));
+      if (previous != null) {
+        wheel.cancel(previous);
+      }
+    }
+  }
+
+  private void finalizeBatch(List<Deadline> batch) {
+    long start = System.nanoTime();
+    List<PendingAttempt> attempts = new ArrayList<>(batch.size());
+    List<Deadline> finalizing = new ArrayList<>(batch.size());
+    List<Deadline> discarded = new ArrayList<>();
+    List<Deadline> retry = new ArrayList<>();
+
+    for (Deadline deadline : batch) {
+      try {
+        AnswerKey key = answerKeyCache.get(deadline.quizId());
+        GradedAttempt graded = attemptGrader.grade(key, List.of());
+        int number = attemptWriteBehind.reserve(deadline.userId(), deadline.quizId(), key.maxAttempts);
+        finalizing.add(deadline);
+        attempts.add(new PendingAttempt(deadline.submissionId(), deadline.userId(), deadline.quizId(), number,
+            graded.score(), graded.maxScore(), graded.percentage(), graded.passed(), "[]", deadline.deadline()));
+      } catch (AttemptLimitExceededException e) {
+        logger.warn("AUDIT: Expired attempt discarded - user {} has no attempts left on quiz {}",
+            deadline.userId(), deadline.quizId());
+        discarded.add(deadline);
+      } catch (RuntimeException e) {
+        logger.warn("Finalizing expired attempt {} failed, retrying: {}", deadline.submissionId(), e.getMessage());
+        retry.add(deadline);
+      }
+    }
+
+    try {
+      int stored = batchWriter.finalizeExpired(attempts,
+          discarded.stream().map(Deadline::submissionId).toList());
+      expired.increment(stored);
+      if (stored > 0) {
+        logger.info("AUDIT: Finalized {} attempts past their deadline", stored);
+      }
+    } catch (RuntimeException e) {
+      logger.error("Finalizing {} expired attempts failed, retrying in {}: {}", batch.size(), retryBackoff,
+          e.getMessage());
+      retry.addAll(finalizing);
+      retry.addAll(discarded);
+    } finally {
+      for (Deadline deadline : finalizing) {
+        attemptWriteBehind.release(deadline.userId(), deadline.quizId());
+      }
+      finalizeTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    long retryAt = System.currentTimeMillis() + Math.max(retryBackoff.toMillis(), tick.toMillis());
+    for (Deadline deadline : retry) {
+      add(deadline, retryAt);
+    }
+  }
+
+  private record Key(Long userId, Long quizId) {
+  }
+}
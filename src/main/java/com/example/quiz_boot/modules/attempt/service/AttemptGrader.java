@@ -0,0 +1,116 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.attempt.dto.request.AnswerSubmissionDto;
+import com.example.quiz_boot.modules.attempt.dto.response.AnswerResultDto;
+import com.example.quiz_boot.modules.attempt.exception.InvalidAttemptException;
+
+/**
+ * Grades a submission against a compiled {@link AnswerKey}: one pass over the
+ * answers to build a bit mask of selected options per question, then one
+ * pass over the key's arrays. No database access and no per-option objects.
+ * Answers may name options by text (as the quiz page sends them) or by id.
+ * Choice questions score only when the selected set equals the correct set;
+ * other types score when the answer names a correct option. Questions
+ * without any correct option (e.g. free-text fill-in-the-blank) have no key,
+ * are reported with {@code correct = null} and are left out of the maximum.
+ */
+@Component
+public class AttemptGrader {
+
+  static final byte WRONG = 0;
+  static final byte CORRECT = 1;
+  static final byte NOT_GRADED = -1;
+
+  private static final byte UNANSWERED = 0;
+  private static final byte ANSWERED = 1;
+  private static final byte UNKNOWN_OPTION = 2;
+
+  public record GradedAttempt(AnswerKey key, byte[] outcomes, int score, int maxScore, int ungraded) {
+
+    public double percentage() {
+      return maxScore == 0 ? 0 : score * 100.0 / maxScore;
+    }
+
+    public boolean passed() {
+      return maxScore > 0 && percentage() >= key.passingScore;
+    }
+
+    public List<AnswerResultDto> results() {
+      List<AnswerResultDto> results = new ArrayList<>(outcomes.length);
+      for (int q = 0; q < outcomes.length; q++) {
+        Boolean correct = outcomes[q] == NOT_GRADED ? null : outcomes[q] == CORRECT;
+        results.add(new AnswerResultDto(key.questionIds[q], correct,
+            outcomes[q] == CORRECT ? key.points[q] : 0, key.points[q]));
+      }
+      return results;
+    }
+  }
+
+  GradedAttempt grade(AnswerKey key, List<AnswerSubmissionDto> answers) {
+    int n = key.questionCount();
+    long[] selected = new long[n];
+    byte[] state = new byte[n];
+
+    for (int i = 0; i < answers.size(); i++) {
+      AnswerSubmissionDto answer = answers.get(i);
+      int q = answer != null && answer.getQuestionId() != null ? key.positionOf(answer.getQuestionId()) : -1;
+      if (q < 0) {
+        throw new InvalidAttemptException("Answer does not belong to quiz " + key.quizId + ": "
+            + (answer != null ? answer.getQuestionId() : null));
+      }
+      if (state[q] != UNANSWERED) {
+        throw new InvalidAttemptException("Question " + answer.getQuestionId() + " answered more than once");
+      }
+      state[q] = ANSWERED;
+      if (key.modes[q] == AnswerKey.UNGRADED) {
+        continue;
+      }
+
+      List<String> options = answer.getSelectedOptions();
+      if (options != null && !options.isEmpty()) {
+        for (int o = 0; o < options.size(); o++) {
+          state[q] = select(key, q, options.get(o), selected, state[q]);
+        }
+      } else if (answer.getAnswer() != null && !answer.getAnswer().isBlank()) {
+        state[q] = select(key, q, answer.getAnswer(), selected, state[q]);
+      }
+    }
+
+    byte[] outcomes = new byte[n];
+    int score = 0;
+    int maxScore = 0;
+    int ungraded = 0;
+    for (int q = 0; q < n; q++) {
+      byte mode = key.modes[q];
+      if (mode == AnswerKey.UNGRADED) {
+        outcomes[q] = NOT_GRADED;
+        ungraded++;
+        continue;
+      }
+      maxScore += key.points[q];
+      long mask = key.correctMasks[q];
+      long chosen = selected[q];
+      boolean correct = state[q] == ANSWERED && chosen != 0
+          && (mode == AnswerKey.EXACT_SET ? chosen == mask : (chosen & ~mask) == 0);
+      if (correct) {
+        outcomes[q] = CORRECT;
+        score += key.points[q];
+      }
+    }
+    return new GradedAttempt(key, outcomes, score, maxScore, ungraded);
+  }
+
+  private static byte select(AnswerKey key, int q, String selection, long[] selected, byte state) {
+    long bit = selection != null ? key.optionBit(q, selection) : 0;
+    if (bit == 0) {
+      return UNKNOWN_OPTION;
+    }
+    selected[q] |= bit;
+    return state;
+  }
+}
@@ -0,0 +1,255 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local append-only journal of accepted attempts, one JSON line per attempt.
+ * An append returns only after the line is forced to disk; concurrent
+ * appends share one force (group commit), so the cost of fsync is spread
+ * over every submission that arrived while the previous one ran.
+ * The journal is split into segments. A segment is sealed when it reaches
+ * the configured size and deleted once every attempt in it is stored in the
+ * database. Segments found at startup are replayed; a torn last line from a
+ * crash is skipped.
+ */
+@Component
+public class AttemptJournal {
+  private static final Logger logger = LoggerFactory.getLogger(AttemptJournal.class);
+
+  private static final String PREFIX = "attempts-";
+  private static final String SUFFIX = ".log";
+
+  /**
+   * A journaled attempt; hand it back through {@link #stored(Entry)} once it is in the database
+   */
+  public record Entry(PendingAttempt attempt, Segment segment) {
+  }
+
+  private final ObjectMapper objectMapper;
+  private final Path directory;
+  private final long segmentBytes;
+
+  private final Object appendLock = new Object();
+  private Segment current;
+  private long nextSequence;
+
+  public AttemptJournal(ObjectMapper objectMapper,
+      @Value("${app.attempts.journal.directory:data/attempt-journal}") Path directory,
+      @Value("${app.attempts.journal.segment-size:16MB}") DataSize segmentSize) {
+    this.objectMapper = objectMapper;
+    this.directory = directory;
+    this.segmentBytes = segmentSize.toBytes();
+  }
+
+  /**
+   * Opens the journal for appends and returns the attempts left by the
+   * previous run, oldest first. Must be called once, before the first append.
+   */
+  public List<Entry> open() throws IOException {
+    synchronized (appendLock) {
+      Files.createDirectories(directory);
+      List<Entry> replayed = new ArrayList<>();
+      List<Path> files;
+      try (Stream<Path> listing = Files.list(directory)) {
+        files = listing.filter(path -> sequenceOf(path) >= 0)
+            .sorted(Comparator.comparingLong(AttemptJournal::sequenceOf))
+            .toList();
+      }
+
+      for (Path file : files) {
+        nextSequence = Math.max(nextSequence, sequenceOf(file) + 1);
+        Segment segment = new Segment(file, null);
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+              continue;
+            }
+            try {
+              replayed.add(new Entry(objectMapper.readValue(line, PendingAttempt.class), segment));
+              segment.pending.incrementAndGet();
+            } catch (IOException e) {
+              skipped++;
+            }
+          }
+        }
+        if (skipped > 0) {
+          logger.warn("Attempt journal {}: skipped {} unreadable lines", file.getFileName(), skipped);
+        }
+        seal(segment);
+      }
+
+      current = newSegment();
+      if (!replayed.isEmpty()) {
+        logger.info("AUDIT: Replaying {} journaled attempts from {} segments", replayed.size(), files.size());
+      }
+      return replayed;
+    }
+  }
+
+  /**
+   * Appends an attempt and forces it to disk
+   */
+  public Entry append(PendingAttempt attempt) throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(attempt);
+    ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+    Segment segment;
+    long end;
+    synchronized (appendLock) {
+      if (current == null) {
+        throw new IOException("Attempt journal is not open");
+      }
+      if (current.written >= segmentBytes) {
+        roll();
+      }
+      segment = current;
+      try {
+        while (line.hasRemaining()) {
+          segment.channel.write(line);
+        }
+      } catch (IOException e) {
+        // A partly written line would corrupt the next one; continue in a fresh segment
+        roll();
+        throw e;
+      }
+      segment.written += line.limit();
+      end = segment.written;
+      segment.pending.incrementAndGet();
+    }
+    segment.sync(end);
+    return new Entry(attempt, segment);
+  }
+
+  /**
+   * Marks a journaled attempt as stored; deletes its segment when that was the last one
+   */
+  public void stored(Entry entry) {
+    Segment segment = entry.segment();
+    if (segment.pending.decrementAndGet() == 0 && segment.sealed) {
+      delete(segment);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    synchronized (appendLock) {
+      if (current != null) {
+        seal(current);
+        current = null;
+      }
+    }
+  }
+
+  // Caller holds appendLock
+  private void roll() throws IOException {
+    Segment sealed = current;
+    current = newSegment();
+    seal(sealed);
+  }
+
+  private Segment newSegment() throws IOException {
+    Path file = directory.resolve(PREFIX + String.format("%016d", nextSequence++) + SUFFIX);
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    return new Segment(file, channel);
+  }
+
+  private void seal(Segment segment) {
+    segment.close();
+    segment.sealed = true;
+    if (segment.pending.get() == 0) {
+      delete(segment);
+    }
+  }
+
+  private void delete(Segment segment) {
+    if (!segment.deleted.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(segment.file);
+    } catch (IOException e) {
+      logger.warn("Could not delete attempt journal segment {}: {}", segment.file, e.getMessage());
+    }
+  }
+
+  private static long sequenceOf(Path path) {
+    String name = path.getFileName().toString();
+    if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * One journal file. {@code pending} counts attempts appended but not yet stored.
+   */
+  static final class Segment {
+    private final Path file;
+    private final FileChannel channel;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean deleted = new AtomicBoolean();
+    private volatile boolean sealed;
+    private volatile long written;
+    private long synced; // guarded by this
+
+    private Segment(Path file, FileChannel channel) {
+      this.file = file;
+      this.channel = channel;
+    }
+
+    /**
+     * Forces everything up to {@code end}; one force covers all appends made before it started
+     */
+    private synchronized void sync(long end) throws IOException {
+      if (synced >= end) {
+        return;
+      }
+      long target = written;
+      channel.force(false);
+      synced = target;
+    }
+
+    private synchronized void close() {
+      if (channel == null || !channel.isOpen()) {
+        return;
+      }
+      try {
+        channel.force(false);
+        synced = written;
+        channel.close();
+      } catch (IOException e) {
+        logger.warn("Could not close attempt journal segment {}: {}", file, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,253 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.quiz_boot.modules.attempt.dto.request.AnswerSubmissionDto;
+import com.example.quiz_boot.modules.attempt.dto.request.AttemptStartDto;
+import com.example.quiz_boot.modules.attempt.dto.request.AttemptSubmissionDto;
+import com.example.quiz_boot.modules.attempt.dto.response.AttemptResultDto;
+import com.example.quiz_boot.modules.attempt.dto.response.OpenAttemptDto;
+import com.example.quiz_boot.modules.attempt.exception.AttemptLimitExceededException;
+import com.example.quiz_boot.modules.attempt.exception.AttemptServiceBusyException;
+import com.example.quiz_boot.modules.attempt.exception.InvalidAttemptException;
+import com.example.quiz_boot.modules.attempt.model.OpenAttempt;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Claim;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Deadline;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptGrader.GradedAttempt;
+import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Grades and records quiz attempts.
+ * Grading runs against a compiled answer key held in memory, and the graded
+ * attempt is acknowledged once it is in the local journal; the database
+ * insert happens later, in batches (see {@link AttemptWriteBehind}).
+ * Timed quizzes must be started first; the submission is then checked
+ * against the server-side deadline (see {@link AttemptDeadlines}). The
+ * stored open attempt decides, so an attempt can be started on one instance
+ * and submitted on another.
+ * Metric: quiz.attempts.submitted (tag result=passed|failed).
+ */
+@Service
+public class AttemptService {
+  private static final Logger logger = LoggerFactory.getLogger(AttemptService.class);
+
+  private final AnswerKeyCache answerKeyCache;
+  private final AttemptGrader attemptGrader;
+  private final AttemptWriteBehind attemptWriteBehind;
+  private final AttemptDeadlines attemptDeadlines;
+  private final OpenAttemptRepository openAttemptRepository;
+  private final UserRepository userRepository;
+  private final QuizRepository quizRepository;
+  private final ObjectMapper objectMapper;
+  private final Counter passedAttempts;
+  private final Counter failedAttempts;
+
+  public AttemptService(AnswerKeyCache answerKeyCache, AttemptGrader attemptGrader,
+      AttemptWriteBehind attemptWriteBehind, AttemptDeadlines attemptDeadlines,
+      OpenAttemptRepository openAttemptRepository, UserRepository userRepository, QuizRepository quizRepository,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.answerKeyCache = answerKeyCache;
+    this.attemptGrader = attemptGrader;
+    this.attemptWriteBehind = attemptWriteBehind;
+    this.attemptDeadlines = attemptDeadlines;
+    this.openAttemptRepository = openAttemptRepository;
+    this.userRepository = userRepository;
+    this.quizRepository = quizRepository;
+    this.objectMapper = objectMapper;
+    this.passedAttempts = Counter.builder("quiz.attempts.submitted").tag("result", "passed")
+        .register(meterRegistry);
+    this.failedAttempts = Counter.builder("quiz.attempts.submitted").tag("result", "failed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts an attempt and, for a timed quiz, its server-side deadline.
+   * Starting again while an attempt is open returns that attempt, so a
+   * reloaded page keeps its original deadline.
+   */
+  public OpenAttemptDto start(Long userId, AttemptStartDto request) {
+    if (userId == null || request == null || request.getQuizId() == null) {
+      logger.warn("AUDIT: Attempt start failed: missing user or quiz");
+      throw new InvalidAttemptException("Quiz ID and user are required");
+    }
+    Long quizId = request.getQuizId();
+
+    try {
+      AnswerKey key = answerKeyCache.get(quizId);
+      Instant startedAt = Instant.now();
+      checkAvailable(key, startedAt);
+      if (key.timeLimit == null) {
+        return new OpenAttemptDto(null, quizId, startedAt, null);
+      }
+
+      Deadline open = attemptDeadlines.load(userId, quizId);
+      if (open != null) {
+        return resume(open, startedAt);
+      }
+      if (attemptWriteBehind.attemptsUsed(userId, quizId) >= key.maxAttempts) {
+        throw new AttemptLimitExceededException("Maximum number of attempts reached for this quiz");
+      }
+
+      Instant deadline = startedAt.plus(key.timeLimit);
+      if (key.availableUntil != null && key.availableUntil.isBefore(deadline)) {
+        deadline = key.availableUntil;
+      }
+      open = new Deadline(UUID.randomUUID().toString(), userId, quizId, startedAt, deadline);
+      saveOpen(open);
+      logger.info("AUDIT: Attempt started - user: {}, quiz: {}, deadline: {}", userId, quizId, deadline);
+      return toDto(open);
+    } catch (AttemptLimitExceededException e) {
+      logger.warn("AUDIT: Attempt start rejected - user {} has no attempts left on quiz {}", userId, quizId);
+      throw e;
+    } catch (InvalidAttemptException | QuizNotFoundException e) {
+      throw e;
+    } catch (DataIntegrityViolationException e) {
+      // Started concurrently, possibly on another instance
+      Deadline open = attemptDeadlines.load(userId, quizId);
+      if (open != null) {
+        return resume(open, Instant.now());
+      }
+      throw new AttemptServiceBusyException("Attempt could not be started, please retry", e);
+    } catch (DataAccessException e) {
+      logger.error("AUDIT: Attempt start failed due to database error - user: {}, quiz: {}, error: {}",
+          userId, quizId, e.getMessage());
+      throw new AttemptServiceBusyException("Attempt could not be started, please retry", e);
+    }
+  }
+
+  public AttemptResultDto submit(Long userId, AttemptSubmissionDto submission) {
+    if (userId == null || submission == null || submission.getQuizId() == null) {
+      logger.warn("AUDIT: Attempt submission failed: missing user or quiz");
+      throw new InvalidAttemptException("Quiz ID and user are required");
+    }
+    Long quizId = submission.getQuizId();
+    List<AnswerSubmissionDto> answers = submission.getAnswers() != null ? submission.getAnswers() : List.of();
+
+    try {
+      AnswerKey key = answerKeyCache.get(quizId);
+      Instant submittedAt = Instant.now();
+      Deadline open = null;
+      if (key.timeLimit != null) {
+        open = attemptDeadlines.find(userId, quizId);
+        if (open == null) {
+          throw new InvalidAttemptException("Attempt has not been started");
+        }
+      } else {
+        checkAvailable(key, submittedAt);
+      }
+
+      GradedAttempt graded = attemptGrader.grade(key, answers);
+      String answersJson = objectMapper.writeValueAsString(answers);
+
+      if (open != null) {
+        Claim claim = attemptDeadlines.claim(open, submittedAt);
+        if (claim == Claim.GONE) {
+          // This instance's timer was stale: the attempt was closed elsewhere, maybe restarted there
+          open = attemptDeadlines.load(userId, quizId);
+          claim = open != null ? attemptDeadlines.claim(open, submittedAt) : Claim.GONE;
+        }
+        if (claim == Claim.GONE) {
+          throw new InvalidAttemptException("Attempt has not been started");
+        }
+        if (claim == Claim.CLOSED) {
+          logger.warn("AUDIT: Attempt rejected - user {} submitted quiz {} after the deadline {}",
+              userId, quizId, open.deadline());
+          throw new InvalidAttemptException("Time limit for this attempt has expired");
+        }
+      }
+      Deadline claimed = open;
+      // A timed attempt keeps the submission ID it was started with, so storing it closes the open attempt
+      String submissionId = open != null ? open.submissionId() : UUID.randomUUID().toString();
+      PendingAttempt attempt;
+      try {
+        attempt = attemptWriteBehind.submit(userId, quizId, key.maxAttempts,
+            attemptNumber -> new PendingAttempt(submissionId, userId, quizId, attemptNumber,
+                graded.score(), graded.maxScore(), graded.percentage(), graded.passed(), answersJson, submittedAt));
+      } catch (RuntimeException e) {
+        if (claimed != null) {
+          reopen(claimed);
+        }
+        throw e;
+      }
+
+      (attempt.passed() ? passedAttempts : failedAttempts).increment();
+      logger.info("AUDIT: Attempt {} accepted - user: {}, quiz: {}, score: {}/{}, passed: {}",
+          attempt.attemptNumber(), userId, quizId, attempt.score(), attempt.maxScore(), attempt.passed());
+
+      return new AttemptResultDto(attempt.submissionId(), quizId, attempt.attemptNumber(), attempt.score(),
+          attempt.maxScore(), attempt.percentage(), key.passingScore, attempt.passed(), graded.ungraded(),
+          graded.results(), submittedAt);
+    } catch (AttemptLimitExceededException e) {
+      logger.warn("AUDIT: Attempt rejected - user {} has no attempts left on quiz {}", userId, quizId);
+      throw e;
+    } catch (InvalidAttemptException | AttemptServiceBusyException | QuizNotFoundException e) {
+      throw e;
+    } catch (JsonProcessingException e) {
+      throw new InvalidAttemptException("Answers could not be stored", e);
+    } catch (DataAccessException e) {
+      logger.error("AUDIT: Attempt submission failed due to database error - user: {}, quiz: {}, error: {}",
+          userId, quizId, e.getMessage());
+      throw new AttemptServiceBusyException("Attempt could not be recorded, please retry", e);
+    }
+  }
+
+  // Stores the open attempt, then schedules its deadline here
+  private void saveOpen(Deadline open) {
+    OpenAttempt attempt = new OpenAttempt();
+    attempt.setSubmissionId(open.submissionId());
+    attempt.setUser(userRepository.getReferenceById(open.userId()));
+    attempt.setQuiz(quizRepository.getReferenceById(open.quizId()));
+    attempt.setStartedAt(open.startedAt());
+    attempt.setDeadline(open.deadline());
+    openAttemptRepository.save(attempt);
+    attemptDeadlines.schedule(open);
+  }
+
+  // Gives back an attempt claimed for a submission that could not be queued
+  private void reopen(Deadline open) {
+    try {
+      saveOpen(open);
+    } catch (DataAccessException e) {
+      logger.error("AUDIT: Open attempt could not be restored - submission: {}, user: {}, quiz: {}, error: {}",
+          open.submissionId(), open.userId(), open.quizId(), e.getMessage());
+    }
+  }
+
+  private OpenAttemptDto resume(Deadline open, Instant at) {
+    if (attemptDeadlines.isClosed(open, at)) {
+      // Finalized on the next tick
+      throw new AttemptServiceBusyException("Previous attempt is still being closed, please retry shortly");
+    }
+    return toDto(open);
+  }
+
+  private static void checkAvailable(AnswerKey key, Instant at) {
+    if (key.availableFrom != null && at.isBefore(key.availableFrom)) {
+      throw new InvalidAttemptException("Quiz is not open yet");
+    }
+    if (key.availableUntil != null && at.isAfter(key.availableUntil)) {
+      throw new InvalidAttemptException("Quiz is closed");
+    }
+  }
+
+  private static OpenAttemptDto toDto(Deadline open) {
+    return new OpenAttemptDto(open.submissionId(), open.quizId(), open.startedAt(), open.deadline());
+  }
+}
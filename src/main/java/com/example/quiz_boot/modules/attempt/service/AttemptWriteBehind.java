@@ -0,0 +1,348 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.attempt.exception.AttemptLimitExceededException;
+import com.example.quiz_boot.modules.attempt.exception.AttemptServiceBusyException;
+import com.example.quiz_boot.modules.attempt.model.RejectedAttempt;
+import com.example.quiz_boot.modules.attempt.repository.QuizAttemptRepository;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptJournal.Entry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind store for graded attempts. A submission is acknowledged once
+ * it is in the local journal; a single writer thread drains the queue into
+ * the database in JDBC batches, so submit latency does not depend on insert
+ * latency. At most queue-capacity attempts wait at a time; beyond that
+ * submissions are rejected with 503 rather than queued without bound.
+ * The attempt limit is checked here against the highest number in the
+ * database plus those still waiting on this instance, which rejects most
+ * over-limit submissions up front but is per instance: the number handed
+ * out is provisional. {@link AttemptBatchWriter} assigns the stored number
+ * and enforces the limit in the batch transaction; an acknowledged attempt
+ * it cannot store is dead-lettered to quiz_attempt_rejects, never dropped.
+ * Metrics: quiz.attempts.write-behind.queue, .batch, .stored,
+ * .dead-lettered and .rejected.
+ */
+@Component
+public class AttemptWriteBehind {
+  private static final Logger logger = LoggerFactory.getLogger(AttemptWriteBehind.class);
+
+  // Another instance can take the same attempt number between our read and insert
+  private static final int ROW_ATTEMPTS = 3;
+
+  private final AttemptJournal journal;
+  private final AttemptBatchWriter batchWriter;
+  private final QuizAttemptRepository quizAttemptRepository;
+  private final int batchSize;
+  private final Duration retryBackoff;
+  private final Duration drainTimeout;
+
+  private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+  private final Semaphore capacity;
+  private final ConcurrentHashMap<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+  private final Thread writer;
+  private volatile boolean running;
+
+  private final Timer batchTime;
+  private final Counter stored;
+  private final Counter deadLettered;
+  private final Counter rejected;
+
+  public AttemptWriteBehind(AttemptJournal journal, AttemptBatchWriter batchWriter,
+      QuizAttemptRepository quizAttemptRepository, MeterRegistry meterRegistry,
+      @Value("${app.attempts.write-behind.queue-capacity:20000}") int queueCapacity,
+      @Value("${app.attempts.write-behind.batch-size:500}") int batchSize,
+      @Value("${app.attempts.write-behind.retry-backoff:1s}") Duration retryBackoff,
+      @Value("${app.attempts.write-behind.drain-timeout:10s}") Duration drainTimeout) {
+    this.journal = journal;
+    this.batchWriter = batchWriter;
+    this.quizAttemptRepository = quizAttemptRepository;
+    this.capacity = new Semaphore(queueCapacity);
+    this.batchSize = batchSize;
+    this.retryBackoff = retryBackoff;
+    this.drainTimeout = drainTimeout;
+    this.writer = new Thread(this::drain, "attempt-writer");
+    this.writer.setDaemon(true);
+
+    Gauge.builder("quiz.attempts.write-behind.queue", queue, BlockingQueue::size).register(meterRegistry);
+    this.batchTime = Timer.builder("quiz.attempts.write-behind.batch").register(meterRegistry);
+    this.stored = Counter.builder("quiz.attempts.write-behind.stored").register(meterRegistry);
+    this.deadLettered = Counter.builder("quiz.attempts.write-behind.dead-lettered").register(meterRegistry);
+    this.rejected = Counter.builder("quiz.attempts.write-behind.rejected").register(meterRegistry);
+  }
+
+  /**
+   * Starts the writer and queues whatever the journal still holds from the previous run
+   */
+  @PostConstruct
+  public void start() {
+    List<Entry> replayed;
+    try {
+      replayed = journal.open();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open the attempt journal", e);
+    }
+    running = true;
+    writer.start();
+
+    for (Entry entry : replayed) {
+      PendingAttempt attempt = entry.attempt();
+      updateSlot(new SlotKey(attempt.userId(), attempt.quizId()), slot -> {
+        slot.highest = Math.max(slot.highest, attempt.attemptNumber());
+        slot.pending++;
+      });
+      capacity.acquireUninterruptibly();
+      queue.add(entry);
+    }
+  }
+
+  /**
+   * Assigns the next provisional attempt number, journals the attempt built for it and
+   * queues it for storage
+   *
+   * @throws AttemptLimitExceededException when the user has no attempts left
+   * @throws AttemptServiceBusyException   when the queue is full or the journal fails
+   */
+  public PendingAttempt submit(Long userId, Long quizId, int maxAttempts, IntFunction<PendingAttempt> attemptFactory) {
+    if (!capacity.tryAcquire()) {
+      rejected.increment();
+      logger.warn("AUDIT: Attempt rejected - write-behind queue full ({} waiting)", queue.size());
+      throw new AttemptServiceBusyException("Too many submissions in progress, please retry shortly");
+    }
+
+    SlotKey key = new SlotKey(userId, quizId);
+    int number;
+    try {
+      number = reserve(userId, quizId, maxAttempts);
+    } catch (RuntimeException e) {
+      capacity.release();
+      throw e;
+    }
+
+    PendingAttempt attempt = attemptFactory.apply(number);
+    Entry entry;
+    try {
+      entry = journal.append(attempt);
+    } catch (IOException e) {
+      settle(key);
+      capacity.release();
+      logger.error("AUDIT: Attempt journal write failed - user: {}, quiz: {}, error: {}",
+          userId, quizId, e.getMessage());
+      throw new AttemptServiceBusyException("Attempt could not be recorded, please retry", e);
+    }
+    queue.add(entry);
+    return attempt;
+  }
+
+  /**
+   * Hands out the next provisional attempt number without queueing anything, for callers
+   * that store the attempt themselves; pair it with {@link #release}
+   *
+   * @throws AttemptLimitExceededException when the user has no attempts left
+   */
+  int reserve(Long userId, Long quizId, int maxAttempts) {
+    int[] number = new int[1];
+    updateSlot(new SlotKey(userId, quizId), slot -> {
+      if (slot.highest >= maxAttempts) {
+        throw new AttemptLimitExceededException("Maximum number of attempts reached for this quiz");
+      }
+      number[0] = ++slot.highest;
+      slot.pending++;
+    });
+    return number[0];
+  }
+
+  /**
+   * Settles a number from {@link #reserve} once its attempt is stored, or given up
+   */
+  void release(Long userId, Long quizId) {
+    settle(new SlotKey(userId, quizId));
+  }
+
+  /**
+   * @return attempts used by this user on this quiz, stored or still queued
+   */
+  int attemptsUsed(Long userId, Long quizId) {
+    Slot slot = slots.get(new SlotKey(userId, quizId));
+    return slot != null ? slot.highest : quizAttemptRepository.findHighestAttemptNumber(userId, quizId);
+  }
+
+  /**
+   * Stops taking work and gives the writer a bounded time to drain; anything
+   * left stays in the journal for the next start
+   */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    writer.join(drainTimeout.toMillis());
+    if (!queue.isEmpty()) {
+      logger.warn("Attempt writer stopped with {} attempts queued; they will be replayed on restart", queue.size());
+    }
+  }
+
+  private void drain() {
+    List<Entry> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Entry first = queue.poll(200, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        if (!write(batch)) {
+          return;
+        }
+        for (Entry entry : batch) {
+          journal.stored(entry);
+          settle(new SlotKey(entry.attempt().userId(), entry.attempt().quizId()));
+        }
+        capacity.release(batch.size());
+        batch.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Stores a batch, retrying until the database accepts it. When the batch
+   * hits a constraint (e.g. another instance stored the same attempt number
+   * first) its rows are stored one by one, each re-reading the numbers, and a
+   * row that still fails is dead-lettered.
+   *
+   * @return false when shutting down with the batch not stored
+   */
+  private boolean write(List<Entry> batch) throws InterruptedException {
+    List<PendingAttempt> attempts = batch.stream().map(Entry::attempt).toList();
+    while (true) {
+      long start = System.nanoTime();
+      try {
+        try {
+          record(batchWriter.insert(attempts));
+        } catch (DataIntegrityViolationException e) {
+          logger.warn("Attempt batch hit a constraint, storing {} rows individually", attempts.size());
+          for (PendingAttempt attempt : attempts) {
+            writeRow(attempt);
+          }
+        }
+        return true;
+      } catch (RuntimeException e) {
+        logger.error("Attempt batch of {} failed, retrying in {}: {}", attempts.size(), retryBackoff, e.getMessage());
+        if (!running) {
+          return false;
+        }
+        Thread.sleep(retryBackoff.toMillis());
+      } finally {
+        batchTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private void writeRow(PendingAttempt attempt) {
+    DataIntegrityViolationException last = null;
+    for (int i = 0; i < ROW_ATTEMPTS; i++) {
+      try {
+        record(batchWriter.insert(List.of(attempt)));
+        return;
+      } catch (DataIntegrityViolationException e) {
+        last = e;
+      }
+    }
+    batchWriter.reject(attempt, RejectedAttempt.CONSTRAINT, last.getMostSpecificCause().getMessage());
+    deadLettered.increment();
+    logger.error("AUDIT: Attempt dead-lettered - submission: {}, user: {}, quiz: {}, reason: {}",
+        attempt.submissionId(), attempt.userId(), attempt.quizId(), RejectedAttempt.CONSTRAINT);
+  }
+
+  private void record(AttemptBatchWriter.Outcome outcome) {
+    stored.increment(outcome.stored());
+    if (outcome.rejected() > 0) {
+      deadLettered.increment(outcome.rejected());
+      logger.error("AUDIT: {} attempts dead-lettered - attempt limit reached or user/quiz deleted",
+          outcome.rejected());
+    }
+  }
+
+  /**
+   * Applies an update to the key's slot, creating the slot from the highest
+   * stored number when there is none. That number is read before compute: a
+   * map bin must not stay locked across a database query. A row stored
+   * between the read and compute can make it low, which only weakens this
+   * instance's pre-check; the batch writer enforces the limit.
+   */
+  private void updateSlot(SlotKey key, Consumer<Slot> update) {
+    int stored = slots.containsKey(key) ? -1 : highestStored(key);
+    while (true) {
+      int loaded = stored;
+      Slot updated = slots.compute(key, (k, slot) -> {
+        if (slot == null) {
+          if (loaded < 0) {
+            return null;
+          }
+          slot = new Slot(loaded);
+        } else if (loaded > slot.highest) {
+          slot.highest = loaded;
+        }
+        update.accept(slot);
+        return slot;
+      });
+      if (updated != null) {
+        return;
+      }
+      // The slot was settled between the check and compute
+      stored = highestStored(key);
+    }
+  }
+
+  private void settle(SlotKey key) {
+    slots.computeIfPresent(key, (k, slot) -> --slot.pending == 0 ? null : slot);
+  }
+
+  private int highestStored(SlotKey key) {
+    return quizAttemptRepository.findHighestAttemptNumber(key.userId(), key.quizId());
+  }
+
+  private record SlotKey(Long userId, Long quizId) {
+  }
+
+  /**
+   * Highest attempt number handed out and how many of those are not stored yet.
+   * Dropped once nothing is pending, so the next lookup reads the database again.
+   */
+  private static final class Slot {
+    private int highest;
+    private int pending;
+
+    private Slot(int highest) {
+      this.highest = highest;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.quiz.service.QuizService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Loads scheduled quizzes into memory before they open, so the first seconds
+ * of an exam do not all miss the caches at once. Each run warms the quiz
+ * detail, its JSON body and its answer key for every quiz opening within the
+ * lead time, and keeps doing so for the same time after it opened, which
+ * re-warms anything invalidated by a last-minute edit.
+ * Metrics: quiz.prewarm.scheduled (quizzes in the window) and
+ * quiz.prewarm.ready (of those, fully in memory after the last run; warm-up
+ * is complete when the two are equal), quiz.prewarm.failures and the
+ * quiz.prewarm.duration timer.
+ */
+@Component
+public class ExamPrewarmer {
+  private static final Logger logger = LoggerFactory.getLogger(ExamPrewarmer.class);
+
+  private final QuizService quizService;
+  private final AnswerKeyCache answerKeyCache;
+  private final Duration leadTime;
+
+  private final AtomicInteger scheduled = new AtomicInteger();
+  private final AtomicInteger ready = new AtomicInteger();
+  private final Counter failures;
+  private final Timer duration;
+
+  public ExamPrewarmer(QuizService quizService, AnswerKeyCache answerKeyCache, MeterRegistry meterRegistry,
+      @Value("${app.exams.prewarm.lead-time:10m}") Duration leadTime) {
+    this.quizService = quizService;
+    this.answerKeyCache = answerKeyCache;
+    this.leadTime = leadTime;
+    Gauge.builder("quiz.prewarm.scheduled", scheduled, AtomicInteger::get).register(meterRegistry);
+    Gauge.builder("quiz.prewarm.ready", ready, AtomicInteger::get).register(meterRegistry);
+    this.failures = Counter.builder("quiz.prewarm.failures").register(meterRegistry);
+    this.duration = Timer.builder("quiz.prewarm.duration").register(meterRegistry);
+  }
+
+  @Scheduled(initialDelayString = "${app.exams.prewarm.interval:30s}",
+      fixedDelayString = "${app.exams.prewarm.interval:30s}")
+  public void prewarm() {
+    long start = System.nanoTime();
+    Instant now = Instant.now();
+    List<Long> quizIds;
+    try {
+      quizIds = quizService.getQuizIdsAvailableFrom(now.minus(leadTime), now.plus(leadTime));
+    } catch (RuntimeException e) {
+      failures.increment();
+      logger.warn("Exam pre-warming skipped, could not list scheduled quizzes: {}", e.getMessage());
+      return;
+    }
+
+    int warm = 0;
+    for (Long quizId : quizIds) {
+      boolean wasWarm = quizService.isQuizContentCached(quizId) && answerKeyCache.isCached(quizId);
+      try {
+        // The payload is built from the detail, so this loads both
+        quizService.warmQuizPayload(quizId);
+        answerKeyCache.get(quizId);
+        warm++;
+        if (!wasWarm) {
+          logger.info("AUDIT: Quiz {} pre-warmed ahead of its scheduled start", quizId);
+        }
+      } catch (RuntimeException e) {
+        failures.increment();
+        logger.warn("Pre-warming quiz {} failed: {}", quizId, e.getMessage());
+      }
+    }
+    scheduled.set(quizIds.size());
+    ready.set(warm);
+    duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical hashed timing wheel. Time is cut into fixed ticks; level 0
+ * has one slot per tick, and each level above covers {@code slots} times the
+ * range of the one below. Scheduling and cancelling are O(1): a timer is
+ * linked into one slot and unlinked from it. As time advances, the slot of
+ * the next higher level is cascaded down whenever a lower level wraps, so
+ * each timer moves at most once per level before it fires.
+ * Deadlines are epoch milliseconds and fire on the first tick at or after
+ * them. Not thread-safe; callers hold their own lock.
+ */
+final class TimingWheel<T> {
+
+  /**
+   * A scheduled value; pass it back to {@link TimingWheel#cancel(Timer)}
+   */
+  static final class Timer<T> {
+    final T value;
+    private final long tick;
+    private Timer<T> prev;
+    private Timer<T> next;
+    private Timer<T> slot;
+
+    private Timer(T value, long tick) {
+      this.value = value;
+      this.tick = tick;
+    }
+  }
+
+  private final long tickMillis;
+  private final int bits;
+  private final int mask;
+  // Each slot is a circular list around a sentinel
+  private final Timer<T>[][] levels;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  TimingWheel(long tickMillis, int slotBits, int levelCount, long startMillis) {
+    if (tickMillis <= 0 || slotBits <= 0 || levelCount <= 0 || slotBits * levelCount >= Long.SIZE - 1) {
+      throw new IllegalArgumentException("Invalid timing wheel geometry");
+    }
+    this.tickMillis = tickMillis;
+    this.bits = slotBits;
+    this.mask = (1 << slotBits) - 1;
+    this.levels = new Timer[levelCount][1 << slotBits];
+    for (Timer<T>[] level : levels) {
+      for (int s = 0; s < level.length; s++) {
+        Timer<T> sentinel = new Timer<>(null, 0);
+        sentinel.prev = sentinel.next = sentinel;
+        level[s] = sentinel;
+      }
+    }
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+  }
+
+  Timer<T> schedule(T value, long deadlineMillis) {
+    // Round up so a timer never fires before its deadline
+    long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+    Timer<T> timer = new Timer<>(value, Math.max(tick, currentTick + 1));
+    place(timer);
+    size++;
+    return timer;
+  }
+
+  /**
+   * @return false when the timer already fired or was cancelled
+   */
+  boolean cancel(Timer<T> timer) {
+    if (timer.slot == null) {
+      return false;
+    }
+    unlink(timer);
+    size--;
+    return true;
+  }
+
+  /**
+   * Moves time forward to {@code nowMillis}, firing every timer due by then
+   *
+   * @return values of the fired timers, in deadline order
+   */
+  List<T> advance(long nowMillis) {
+    long target = Math.floorDiv(nowMillis, tickMillis);
+    List<T> fired = new ArrayList<>();
+    while (currentTick < target) {
+      if (size == 0) {
+        currentTick = target;
+        break;
+      }
+      currentTick++;
+      cascade(1);
+      Timer<T> sentinel = levels[0][(int) (currentTick & mask)];
+      for (Timer<T> timer = sentinel.next; timer != sentinel; ) {
+        Timer<T> next = timer.next;
+        unlink(timer);
+        size--;
+        fired.add(timer.value);
+        timer = next;
+      }
+    }
+    return fired;
+  }
+
+  int size() {
+    return size;
+  }
+
+  // Empties the slot of this level that the current tick has reached, once the level below wraps
+  private void cascade(int level) {
+    if (level >= levels.length || ((currentTick >>> (bits * (level - 1))) & mask) != 0) {
+      return;
+    }
+    cascade(level + 1);
+    Timer<T> sentinel = levels[level][(int) ((currentTick >>> (bits * level)) & mask)];
+    for (Timer<T> timer = sentinel.next; timer != sentinel; ) {
+      Timer<T> next = timer.next;
+      unlink(timer);
+      place(timer);
+      timer = next;
+    }
+  }
+
+  private void place(Timer<T> timer) {
+    long delta = timer.tick - currentTick;
+    int level = 0;
+    while (level < levels.length - 1 && delta >= 1L << (bits * (level + 1))) {
+      level++;
+    }
+    long tick = timer.tick;
+    if (level == levels.length - 1 && delta >= 1L << (bits * levels.length)) {
+      // Past the top level's range: park in its last slot and re-place on cascade
+      tick = currentTick + (1L << (bits * levels.length)) - 1;
+    }
+    Timer<T> sentinel = levels[level][(int) ((tick >>> (bits * level)) & mask)];
+    timer.prev = sentinel.prev;
+    timer.next = sentinel;
+    sentinel.prev.next = timer;
+    sentinel.prev = timer;
+    timer.slot = sentinel;
+  }
+
+  private static <T> void unlink(Timer<T> timer) {
+    timer.prev.next = timer.next;
+    timer.next.prev = timer.prev;
+    timer.prev = timer.next = null;
+    timer.slot = null;
+  }
+}
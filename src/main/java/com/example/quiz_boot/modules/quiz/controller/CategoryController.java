@@ -1,11 +1,14 @@
 package com.example.quiz_boot.modules.quiz.controller;
 
+import java.time.Instant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,12 +19,15 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.quiz_boot.modules.quiz.dto.request.CategoryCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.CategoryUpdateDto;
 import com.example.quiz_boot.modules.quiz.dto.response.CategoryResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.CategorySummaryDto;
+import com.example.quiz_boot.modules.quiz.service.CategoryCatalog;
 import com.example.quiz_boot.modules.quiz.service.CategoryService;
+import com.example.quiz_boot.modules.shared.utils.ConditionalRequests;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -61,13 +67,24 @@ public class CategoryController {
 
   /**
    * Gets all categories without pagination (for dropdowns).
+   * Serves the pre-serialized catalogue snapshot with a strong ETag and
+   * answers 304 when the client already has the current version.
    *
-   * @return list of all categories
+   * @param request the current request, used for If-None-Match
+   * @return JSON array of all categories
    */
-  @GetMapping("/all")
-  public ResponseEntity<java.util.List<CategorySummaryDto>> getAllCategories() {
-    java.util.List<CategorySummaryDto> result = categoryService.getAllCategories();
-    return ResponseEntity.ok(result);
+  @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getAllCategories(WebRequest request) {
+    CategoryCatalog.Snapshot catalog = categoryService.getCategoryCatalog();
+    if (request.checkNotModified(catalog.etag())) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .eTag(catalog.etag())
+        .cacheControl(CacheControl.noCache())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(catalog.json());
   }
 
   /**
@@ -85,11 +102,20 @@ public class CategoryController {
   /**
    * Gets a single category by ID.
    *
-   * @param id the category ID
+   * Honors If-None-Match / If-Modified-Since and answers 304 when unchanged.
+   *
+   * @param id      the category ID
+   * @param request the current request, used for the conditional headers
    * @return ResponseEntity with the category details
    */
   @GetMapping("/{id}")
-  public ResponseEntity<CategoryResponseDto> getCategoryById(@PathVariable @Positive Long id) {
+  public ResponseEntity<CategoryResponseDto> getCategoryById(@PathVariable @Positive Long id, WebRequest request) {
+    Instant lastModified = categoryService.getCategoryLastModified(id);
+    if (ConditionalRequests.checkNotModified(request,
+        ConditionalRequests.etag("category", id, lastModified), lastModified)) {
+      return null;
+    }
+
     CategoryResponseDto category = categoryService.getCategoryById(id);
     return ResponseEntity.ok(category);
   }
@@ -1,11 +1,16 @@
 package com.example.quiz_boot.modules.quiz.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,12 +22,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionUpdateDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto;
 import com.example.quiz_boot.modules.quiz.service.QuestionService;
+import com.example.quiz_boot.modules.shared.utils.ConditionalRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -35,33 +44,76 @@ import jakarta.validation.constraints.Positive;
 @Validated
 public class QuestionController {
 
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
   private final QuestionService questionService;
+  private final ObjectMapper objectMapper;
 
-  public QuestionController(QuestionService questionService) {
+  public QuestionController(QuestionService questionService, ObjectMapper objectMapper) {
     this.questionService = questionService;
+    this.objectMapper = objectMapper;
   }
 
   /**
    * Gets questions by quiz ID with pagination.
    *
+   * Answers 304 when no question of the quiz changed since the client's copy.
+   *
    * @param quizId   the quiz ID to filter by
    * @param pageable pagination parameters
+   * @param request  the current request, used for the conditional headers
    * @return paginated list of questions
    */
   @GetMapping
   public ResponseEntity<Page<QuestionSummaryDto>> getQuestionsByQuizId(
       @RequestParam @Positive Long quizId,
-      @PageableDefault(page = 0, size = 10, sort = "questionOrder", direction = Sort.Direction.ASC) Pageable pageable) {
+      @PageableDefault(page = 0, size = 10, sort = "questionOrder", direction = Sort.Direction.ASC) Pageable pageable,
+      WebRequest request) {
 
     // Enforce maximum page size
     if (pageable.getPageSize() > 100) {
       pageable = PageRequest.of(pageable.getPageNumber(), 100, pageable.getSort());
     }
 
+    Instant lastModified = questionService.getQuestionsLastModified(quizId);
+    if (lastModified != null && ConditionalRequests.checkNotModified(request,
+        ConditionalRequests.etag("questions", quizId + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize(),
+            lastModified),
+        lastModified)) {
+      return null;
+    }
+
     Page<QuestionSummaryDto> result = questionService.getQuestionsByQuizId(quizId, pageable);
     return ResponseEntity.ok(result);
   }
 
+  /**
+   * Streams every question of a quiz as newline-delimited JSON, in display
+   * order, for authoring tools working on quizzes too large to page through.
+   *
+   * @param quizId the quiz ID
+   * @return one QuestionSummaryDto per line
+   */
+  @GetMapping(value = "/stream", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> streamQuestionsByQuizId(@RequestParam @Positive Long quizId) {
+    questionService.requireQuiz(quizId);
+    StreamingResponseBody body = (OutputStream out) -> {
+      try {
+        questionService.streamQuestionsByQuizId(quizId, question -> {
+          try {
+            out.write(objectMapper.writeValueAsBytes(question));
+            out.write('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+    return ResponseEntity.ok().contentType(NDJSON).body(body);
+  }
+
   /**
    * Creates a new question.
    *
@@ -77,11 +129,20 @@ public class QuestionController {
   /**
    * Gets a single question by ID.
    *
-   * @param id the question ID
+   * Honors If-None-Match / If-Modified-Since and answers 304 when unchanged.
+   *
+   * @param id      the question ID
+   * @param request the current request, used for the conditional headers
    * @return ResponseEntity with the question details
    */
   @GetMapping("/{id}")
-  public ResponseEntity<QuestionResponseDto> getQuestionById(@PathVariable @Positive Long id) {
+  public ResponseEntity<QuestionResponseDto> getQuestionById(@PathVariable @Positive Long id, WebRequest request) {
+    Instant lastModified = questionService.getQuestionLastModified(id);
+    if (ConditionalRequests.checkNotModified(request,
+        ConditionalRequests.etag("question", id, lastModified), lastModified)) {
+      return null;
+    }
+
     QuestionResponseDto question = questionService.getQuestionById(id);
     return ResponseEntity.ok(question);
   }
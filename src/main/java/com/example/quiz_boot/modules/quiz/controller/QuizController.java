@@ -1,5 +1,7 @@
 package com.example.quiz_boot.modules.quiz.controller;
 
+import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.domain.Page;
@@ -7,8 +9,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,15 +25,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.example.quiz_boot.modules.quiz.dto.request.QuizCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.QuizUpdateDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizCursorPageDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
 import com.example.quiz_boot.modules.quiz.mapper.QuizMapper;
 import com.example.quiz_boot.modules.quiz.service.QuizService;
+import com.example.quiz_boot.modules.shared.utils.ConditionalRequests;
+import com.example.quiz_boot.modules.user.service.UserPrincipal;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -103,6 +113,69 @@ public class QuizController {
     return ResponseEntity.ok(result);
   }
 
+  /**
+   * Retrieves quizzes with keyset (cursor) pagination.
+   * Selected when the request carries a {@code cursor} parameter; pass an empty
+   * cursor for the first page and the returned {@code nextCursor} afterwards.
+   * No total count is computed, so every page costs the same.
+   *
+   * @param cursor     continuation token from the previous page, empty for the
+   *                   first page
+   * @param size       page size (at most 100)
+   * @param sort       sort order, by id or createdAt
+   * @param categoryId optional category filter
+   * @param creatorId  optional creator filter
+   * @return a slice of quiz summaries and the next cursor
+   */
+  @GetMapping(params = "cursor")
+  public ResponseEntity<QuizCursorPageDto> getQuizzesByCursor(
+      @RequestParam String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @SortDefault(sort = "id", direction = Sort.Direction.DESC) Sort sort,
+      @RequestParam(required = false) @Positive Long categoryId,
+      @RequestParam(required = false) @Positive Long creatorId) {
+
+    // Enforce page size bounds for performance
+    size = Math.max(1, Math.min(size, 100));
+
+    Sort.Order order = sort.iterator().next();
+    Set<String> allowedSorts = Set.of("id", "createdAt");
+    if (!allowedSorts.contains(order.getProperty()) || sort.stream().count() > 1) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          "Invalid sort for cursor pagination. Use a single field from: " + allowedSorts);
+    }
+
+    if (categoryId != null && creatorId != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          "Cannot filter by both categoryId and creatorId simultaneously. Please use one filter at a time.");
+    }
+
+    QuizCursorPageDto result = quizService.getQuizzesByCursor(cursor, size, order.getProperty(),
+        order.isAscending(), categoryId, creatorId);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * Gets the number of quizzes in each category from the maintained counters.
+   *
+   * @return map of category ID to quiz count
+   */
+  @GetMapping("/counts/by-category")
+  public ResponseEntity<Map<Long, Long>> getQuizCountsByCategory() {
+    return ResponseEntity.ok(quizService.getQuizCountsByCategory());
+  }
+
+  /**
+   * Gets the number of quizzes owned by a creator from the maintained counters.
+   *
+   * @param creatorId the creator's user ID
+   * @return the creator's quiz count
+   */
+  @GetMapping("/counts/by-creator/{creatorId}")
+  public ResponseEntity<Long> getQuizCountByCreator(@PathVariable @Positive Long creatorId) {
+    return ResponseEntity.ok(quizService.getQuizCountByCreator(creatorId));
+  }
+
   /**
    * Creates a new quiz.
    *
@@ -127,13 +200,42 @@ public class QuizController {
   /**
    * Gets a single quiz by ID.
    *
-   * @param id the quiz ID
+   * Honors If-None-Match / If-Modified-Since and answers 304 when unchanged.
+   * The body is a {@link QuizDetailDto} written from its cached JSON; it
+   * carries no correct options or explanations, which stay on the server
+   * for grading. Before the quiz opens only its creator and admins get the
+   * questions; everyone else gets the quiz without them.
+   *
+   * @param id        the quiz ID
+   * @param principal the authenticated user, or null when anonymous
+   * @param request   the current request, used for the conditional headers
    * @return ResponseEntity with the quiz details
    */
   @GetMapping("/{id}")
-  public ResponseEntity<QuizDetailDto> getQuizById(@PathVariable @Positive Long id) {
-    QuizDetailDto quiz = quizService.getQuizById(id);
-    return ResponseEntity.ok(quiz);
+  public ResponseEntity<byte[]> getQuizById(@PathVariable @Positive Long id,
+      @AuthenticationPrincipal UserPrincipal principal, WebRequest request) {
+    Long viewerId = principal != null ? principal.getId() : null;
+    boolean admin = principal != null && principal.getAuthorities().stream()
+        .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+
+    if (!quizService.isQuizOpenTo(id, viewerId, admin)) {
+      // No validators: the body changes when the quiz opens although the quiz does not
+      return ResponseEntity.ok()
+          .cacheControl(CacheControl.noStore())
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(quizService.getQuizPayload(id, viewerId, admin));
+    }
+
+    // Validate before loading so a 304 never touches questions or options
+    Instant lastModified = quizService.getQuizLastModified(id);
+    if (ConditionalRequests.checkNotModified(request,
+        ConditionalRequests.etag("quiz", id, lastModified), lastModified)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(quizService.getQuizPayload(id, viewerId, admin));
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.example.quiz_boot.modules.quiz.dto.request;
 
+import java.time.Instant;
 import java.util.List;
 
 import jakarta.validation.Valid;
@@ -44,4 +45,8 @@ public class QuizCreateDto {
   @Max(value = 10, message = "Max attempts cannot exceed 10")
   @NotNull(message = "Max attempts is required")
   private Integer maxAttempts;
+
+  private Instant availableFrom;
+
+  private Instant availableUntil;
 }
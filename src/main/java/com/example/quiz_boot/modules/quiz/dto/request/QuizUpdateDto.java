@@ -1,5 +1,6 @@
 package com.example.quiz_boot.modules.quiz.dto.request;
 
+import java.time.Instant;
 import java.util.List;
 
 import jakarta.validation.Valid;
@@ -33,4 +34,8 @@ public class QuizUpdateDto {
   @Min(value = 1, message = "Max attempts must be at least 1")
   @Max(value = 10, message = "Max attempts cannot exceed 10")
   private Integer maxAttempts;
+
+  private Instant availableFrom;
+
+  private Instant availableUntil;
 }
@@ -0,0 +1,17 @@
+package com.example.quiz_boot.modules.quiz.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizCursorPageDto {
+  private List<QuizSummaryDto> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor; // null when there is no next page
+}
@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Quiz with its questions as shown to quiz takers; see {@link QuizQuestionDto}
+ */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -15,10 +18,12 @@ public class QuizDetailDto {
   private String title;
   private String description;
   private CategoryResponseDto category;
-  private List<QuestionResponseDto> questions;
+  private List<QuizQuestionDto> questions;
   private int duration;
   private double passingScore;
   private int maxAttempts;
   private Instant createdAt;
   private Instant updatedAt;
+  private Instant availableFrom;
+  private Instant availableUntil;
 }
@@ -0,0 +1,17 @@
+package com.example.quiz_boot.modules.quiz.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An answer option as shown to quiz takers: no correct flag or explanation
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizOptionDto {
+  private Long id;
+  private String optionText;
+  private int optionOrder;
+}
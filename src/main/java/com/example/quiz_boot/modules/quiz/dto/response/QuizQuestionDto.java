@@ -0,0 +1,23 @@
+package com.example.quiz_boot.modules.quiz.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A question as shown to quiz takers: no correct flags or explanations
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizQuestionDto {
+  private Long id;
+  private String questionText;
+  private String questionType;
+  private int questionOrder;
+  private int points;
+  private boolean isRequired;
+  private List<QuizOptionDto> options;
+}
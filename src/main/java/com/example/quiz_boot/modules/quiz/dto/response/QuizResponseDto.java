@@ -24,4 +24,6 @@ public class QuizResponseDto {
   private int maxAttempts;
   private Instant createdAt;
   private Instant updatedAt;
+  private Instant availableFrom;
+  private Instant availableUntil;
 }
@@ -30,4 +30,11 @@ public class QuizSummaryDto {
     this.questionCount = questionCount;
     this.createdAt = createdAt;
   }
+
+  // Constructor used by JPQL constructor expressions in QuizRepository
+  public QuizSummaryDto(Long id, String title, String description, Long categoryId, String categoryName,
+      Integer duration, Double passingScore, Long questionCount, Instant createdAt) {
+    this(id, title, description, categoryId != null ? new CategorySummaryDto(categoryId, categoryName) : null,
+        duration, passingScore, questionCount != null ? questionCount.intValue() : 0, createdAt);
+  }
 }
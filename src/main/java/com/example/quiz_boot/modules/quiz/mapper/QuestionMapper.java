@@ -10,6 +10,7 @@ import com.example.quiz_boot.modules.quiz.dto.request.QuestionCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionUpdateDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizQuestionDto;
 import com.example.quiz_boot.modules.quiz.model.Question;
 import com.example.quiz_boot.modules.quiz.model.Quiz;
 import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
@@ -67,6 +68,22 @@ public class QuestionMapper {
         question.getUpdatedAt());
   }
 
+  /**
+   * Convert Question entity to QuizQuestionDto, without correct flags or explanations
+   */
+  public QuizQuestionDto toQuizQuestionDto(Question question) {
+    return new QuizQuestionDto(
+        question.getId(),
+        question.getQuestionText(),
+        question.getQuestionType(),
+        question.getQuestionOrder(),
+        question.getPoints(),
+        question.isRequired(),
+        question.getOptions() != null
+            ? question.getOptions().stream().map(questionOptionMapper::toQuizOptionDto).collect(Collectors.toList())
+            : null);
+  }
+
   /**
    * Convert Question entity to QuestionSummaryDto
    */
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionOptionCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionOptionUpdateDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionOptionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizOptionDto;
 import com.example.quiz_boot.modules.quiz.model.QuestionOption;
 
 /**
@@ -43,6 +44,13 @@ public class QuestionOptionMapper {
         option.getUpdatedAt());
   }
 
+  /**
+   * Convert QuestionOption entity to QuizOptionDto, without the correct flag
+   */
+  public QuizOptionDto toQuizOptionDto(QuestionOption option) {
+    return new QuizOptionDto(option.getId(), option.getOptionText(), option.getOptionOrder());
+  }
+
   /**
    * Convert list of QuestionOption entities to list of QuestionOptionResponseDto
    */
@@ -11,7 +11,9 @@ import com.example.quiz_boot.modules.quiz.dto.request.QuizUpdateDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
+import com.example.quiz_boot.modules.quiz.exception.CategoryNotFoundException;
 import com.example.quiz_boot.modules.quiz.model.Category;
+import com.example.quiz_boot.modules.quiz.model.Question;
 import com.example.quiz_boot.modules.quiz.model.Quiz;
 import com.example.quiz_boot.modules.quiz.repository.CategoryRepository;
 import com.example.quiz_boot.modules.user.mapper.UserMapper;
@@ -65,6 +67,8 @@ public class QuizMapper {
     quiz.setDuration(dto.getDuration());
     quiz.setPassingScore(dto.getPassingScore());
     quiz.setMaxAttempts(dto.getMaxAttempts());
+    quiz.setAvailableFrom(dto.getAvailableFrom());
+    quiz.setAvailableUntil(dto.getAvailableUntil());
     return quiz;
   }
 
@@ -83,7 +87,9 @@ public class QuizMapper {
         quiz.getPassingScore(),
         quiz.getMaxAttempts(),
         quiz.getCreatedAt(),
-        quiz.getUpdatedAt());
+        quiz.getUpdatedAt(),
+        quiz.getAvailableFrom(),
+        quiz.getAvailableUntil());
   }
 
   /**
@@ -105,17 +111,29 @@ public class QuizMapper {
    * Convert Quiz entity to QuizDetailDto
    */
   public QuizDetailDto toDetailDto(Quiz quiz) {
+    return toDetailDto(quiz, quiz.getQuestions());
+  }
+
+  /**
+   * Convert Quiz entity to QuizDetailDto using an already loaded question list
+   * Avoids initializing the lazy questions collection of the quiz
+   */
+  public QuizDetailDto toDetailDto(Quiz quiz, List<Question> questions) {
     return new QuizDetailDto(
         quiz.getId(),
         quiz.getTitle(),
         quiz.getDescription(),
         quiz.getCategory() != null ? categoryMapper.toResponseDto(quiz.getCategory()) : null,
-        quiz.getQuestions() != null ? questionMapper.toResponseDtoList(quiz.getQuestions()) : null,
+        questions != null
+            ? questions.stream().map(questionMapper::toQuizQuestionDto).collect(Collectors.toList())
+            : null,
         quiz.getDuration(),
         quiz.getPassingScore(),
         quiz.getMaxAttempts(),
         quiz.getCreatedAt(),
-        quiz.getUpdatedAt());
+        quiz.getUpdatedAt(),
+        quiz.getAvailableFrom(),
+        quiz.getAvailableUntil());
   }
 
   /**
@@ -146,6 +164,12 @@ public class QuizMapper {
     if (dto.getDescription() != null) {
       quiz.setDescription(dto.getDescription());
     }
+    if (dto.getCategoryId() != null
+        && (quiz.getCategory() == null || !dto.getCategoryId().equals(quiz.getCategory().getId()))) {
+      Category category = categoryRepository.findById(dto.getCategoryId())
+          .orElseThrow(() -> new CategoryNotFoundException("Category not found with ID: " + dto.getCategoryId()));
+      quiz.setCategory(category);
+    }
     if (dto.getDuration() != null) {
       quiz.setDuration(dto.getDuration());
     }
@@ -155,6 +179,12 @@ public class QuizMapper {
     if (dto.getMaxAttempts() != null) {
       quiz.setMaxAttempts(dto.getMaxAttempts());
     }
+    if (dto.getAvailableFrom() != null) {
+      quiz.setAvailableFrom(dto.getAvailableFrom());
+    }
+    if (dto.getAvailableUntil() != null) {
+      quiz.setAvailableUntil(dto.getAvailableUntil());
+    }
   }
 
   /**
@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -23,9 +24,8 @@ import lombok.EqualsAndHashCode;
 @Entity
 @EqualsAndHashCode(callSuper = true)
 @Table(name = "questions", indexes = {
-    @jakarta.persistence.Index(name = "idx_question_quiz", columnList = "quiz_id"),
-    @jakarta.persistence.Index(name = "idx_question_type", columnList = "question_type"),
-    @jakarta.persistence.Index(name = "idx_question_order", columnList = "question_order")
+    @jakarta.persistence.Index(name = "idx_question_quiz_order", columnList = "quiz_id, question_order"),
+    @jakarta.persistence.Index(name = "idx_question_type", columnList = "question_type")
 })
 public class Question extends BaseEntity {
 
@@ -39,6 +39,7 @@ public class Question extends BaseEntity {
   private Quiz quiz;
 
   @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+  @OrderBy("optionOrder ASC")
   private List<QuestionOption> options;
 
   @Column(nullable = false)
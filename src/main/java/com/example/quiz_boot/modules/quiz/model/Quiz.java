@@ -1,5 +1,6 @@
 package com.example.quiz_boot.modules.quiz.model;
 
+import java.time.Instant;
 import java.util.List;
 
 import com.example.quiz_boot.modules.shared.Base.BaseEntity;
@@ -12,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -23,8 +25,9 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 @Table(name = "quizzes", indexes = {
     @jakarta.persistence.Index(name = "idx_quiz_title", columnList = "title"),
-    @jakarta.persistence.Index(name = "idx_quiz_category", columnList = "category_id"),
-    @jakarta.persistence.Index(name = "idx_quiz_creator", columnList = "creator_id")
+    @jakarta.persistence.Index(name = "idx_quiz_category", columnList = "category_id, id"),
+    @jakarta.persistence.Index(name = "idx_quiz_creator", columnList = "creator_id, id"),
+    @jakarta.persistence.Index(name = "idx_quiz_available_from", columnList = "available_from")
 })
 public class Quiz extends BaseEntity {
   @Column(nullable = false)
@@ -42,6 +45,7 @@ public class Quiz extends BaseEntity {
   private User creator;
 
   @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+  @OrderBy("questionOrder ASC")
   private List<Question> questions;
 
   @Min(0)
@@ -58,4 +62,9 @@ public class Quiz extends BaseEntity {
   @Max(10)
   @Column(nullable = false)
   private int maxAttempts;
+
+  // Scheduled availability window; null means open-ended on that side
+  private Instant availableFrom;
+
+  private Instant availableUntil;
 }
@@ -0,0 +1,32 @@
+package com.example.quiz_boot.modules.quiz.model;
+
+import com.example.quiz_boot.modules.shared.Base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Maintained read model holding the number of quizzes per category and per
+ * creator. Updated in the same transaction as the quiz write.
+ */
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "quiz_counters", uniqueConstraints = @UniqueConstraint(columnNames = { "scope", "owner_id" }))
+public class QuizCounter extends BaseEntity {
+  public static final String CATEGORY = "CATEGORY";
+  public static final String CREATOR = "CREATOR";
+
+  @Column(nullable = false, length = 20)
+  private String scope; // CATEGORY, CREATOR
+
+  @Column(name = "owner_id", nullable = false)
+  private Long ownerId;
+
+  @Column(nullable = false)
+  private long quizCount;
+}
@@ -1,8 +1,12 @@
 package com.example.quiz_boot.modules.quiz.repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.quiz_boot.modules.quiz.model.Category;
 
@@ -10,4 +14,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
   Category findByName(String name);
 
   List<Category> findAllByIdIn(List<Long> ids);
+
+  // Validator for conditional GET of a single category
+  @Query("SELECT c.updatedAt FROM Category c WHERE c.id = :id")
+  Optional<Instant> findUpdatedAtById(@Param("id") Long id);
 }
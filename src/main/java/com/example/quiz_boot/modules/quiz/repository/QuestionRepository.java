@@ -1,13 +1,44 @@
 package com.example.quiz_boot.modules.quiz.repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto;
 import com.example.quiz_boot.modules.quiz.model.Question;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
   Question findByQuestionText(String questionText);
 
   List<Question> findByQuizId(Long quizId);
+
+  // Quiz-scoped page served by the (quiz_id, question_order) index
+  Page<Question> findByQuizId(Long quizId, Pageable pageable);
+
+  long countByQuizId(Long quizId);
+
+  // Validator for conditional GET of a single question
+  @Query("SELECT q.updatedAt FROM Question q WHERE q.id = :id")
+  Optional<Instant> findUpdatedAtById(@Param("id") Long id);
+
+  // Keyset chunk of summaries after (afterOrder, afterId) in display order, for
+  // streaming very large quizzes; served by the (quiz_id, question_order) index
+  // and no entities are attached to the persistence context
+  @Query("SELECT new com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto(" +
+      "qs.id, qs.questionText, qs.questionType, qs.questionOrder, qs.points, qs.isRequired) " +
+      "FROM Question qs WHERE qs.quiz.id = :quizId AND (qs.questionOrder > :afterOrder " +
+      "OR (qs.questionOrder = :afterOrder AND qs.id > :afterId)) ORDER BY qs.questionOrder, qs.id")
+  List<QuestionSummaryDto> findSummariesAfter(@Param("quizId") Long quizId, @Param("afterOrder") int afterOrder,
+      @Param("afterId") Long afterId, Pageable limit);
+
+  // All questions of a quiz with their options in one statement, in display order
+  @Query("SELECT qs FROM Question qs LEFT JOIN FETCH qs.options o " +
+      "WHERE qs.quiz.id = :quizId ORDER BY qs.questionOrder, o.optionOrder")
+  List<Question> findByQuizIdWithOptions(@Param("quizId") Long quizId);
 }
@@ -0,0 +1,54 @@
+package com.example.quiz_boot.modules.quiz.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.quiz_boot.modules.quiz.model.QuizCounter;
+
+public interface QuizCounterRepository extends JpaRepository<QuizCounter, Long> {
+
+  // Reads are scalar projections so they always see the latest adjust() in this transaction
+  interface CountView {
+    Long getOwnerId();
+
+    long getQuizCount();
+  }
+
+  @Query("SELECT c.quizCount FROM QuizCounter c WHERE c.scope = :scope AND c.ownerId = :ownerId")
+  Optional<Long> findQuizCount(@Param("scope") String scope, @Param("ownerId") Long ownerId);
+
+  @Query("SELECT c.ownerId AS ownerId, c.quizCount AS quizCount FROM QuizCounter c WHERE c.scope = :scope")
+  List<CountView> findCountsByScope(@Param("scope") String scope);
+
+  // Backfill: one row per category (0 when it has no quizzes) that has no counter yet
+  @Modifying
+  @Query(value = "INSERT INTO quiz_counters (scope, owner_id, quiz_count, created_at, updated_at) " +
+      "SELECT 'CATEGORY', c.id, COUNT(q.id), :now, :now FROM categories c " +
+      "LEFT JOIN quizzes q ON q.category_id = c.id " +
+      "WHERE NOT EXISTS (SELECT 1 FROM quiz_counters qc WHERE qc.scope = 'CATEGORY' AND qc.owner_id = c.id) " +
+      "GROUP BY c.id", nativeQuery = true)
+  int seedCategoryCounters(@Param("now") Instant now);
+
+  // Backfill: one row per creator owning quizzes that has no counter yet
+  @Modifying
+  @Query(value = "INSERT INTO quiz_counters (scope, owner_id, quiz_count, created_at, updated_at) " +
+      "SELECT 'CREATOR', q.creator_id, COUNT(*), :now, :now FROM quizzes q " +
+      "WHERE NOT EXISTS (SELECT 1 FROM quiz_counters qc WHERE qc.scope = 'CREATOR' AND qc.owner_id = q.creator_id) " +
+      "GROUP BY q.creator_id", nativeQuery = true)
+  int seedCreatorCounters(@Param("now") Instant now);
+
+  // Atomic in-place adjustment; returns 0 when the counter row does not exist yet
+  @Modifying
+  @Query("UPDATE QuizCounter c SET c.quizCount = c.quizCount + :delta, c.updatedAt = :now " +
+      "WHERE c.scope = :scope AND c.ownerId = :ownerId")
+  int adjust(@Param("scope") String scope,
+      @Param("ownerId") Long ownerId,
+      @Param("delta") long delta,
+      @Param("now") Instant now);
+}
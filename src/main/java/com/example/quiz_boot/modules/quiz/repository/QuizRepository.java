@@ -1,17 +1,52 @@
 package com.example.quiz_boot.modules.quiz.repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
 import com.example.quiz_boot.modules.quiz.model.Quiz;
 
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
+  // Detail loading: quiz and category in one statement, questions are
+  // loaded separately through QuestionRepository.findByQuizIdWithOptions
+  @Query("SELECT q FROM Quiz q JOIN FETCH q.category WHERE q.id = :id")
+  Optional<Quiz> findByIdWithCategory(@Param("id") Long id);
+
+  // Validators and access check for conditional GET of the quiz detail; touches no child rows
+  interface LastModifiedView {
+    Instant getQuizUpdatedAt();
+
+    Instant getCategoryUpdatedAt();
+
+    Instant getAvailableFrom();
+
+    Long getCreatorId();
+  }
+
+  @Query("SELECT q.updatedAt AS quizUpdatedAt, c.updatedAt AS categoryUpdatedAt, " +
+      "q.availableFrom AS availableFrom, q.creator.id AS creatorId " +
+      "FROM Quiz q LEFT JOIN q.category c WHERE q.id = :id")
+  Optional<LastModifiedView> findLastModifiedById(@Param("id") Long id);
+
+  // Scheduled quizzes about to open, for cache pre-warming; uses idx_quiz_available_from
+  @Query("SELECT q.id FROM Quiz q WHERE q.availableFrom > :from AND q.availableFrom <= :to")
+  List<Long> findIdsByAvailableFromBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+  // Bumps the quiz version when its questions change
+  @Modifying
+  @Query("UPDATE Quiz q SET q.updatedAt = :now WHERE q.id = :id")
+  int touch(@Param("id") Long id, @Param("now") Instant now);
+
   // Find by title
   Quiz findByTitle(String title);
 
@@ -20,11 +55,15 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
   Page<Quiz> findByCategoryId(Long categoryId, Pageable pageable);
 
+  long countByCategoryId(Long categoryId);
+
   // Find by creator
   List<Quiz> findByCreatorId(Long creatorId);
 
   Page<Quiz> findByCreatorId(Long creatorId, Pageable pageable);
 
+  long countByCreatorId(Long creatorId);
+
   // Custom query to search by title containing
   @Query("SELECT q FROM Quiz q WHERE q.title LIKE %:title%")
   Page<Quiz> findByTitleContaining(@Param("title") String title, Pageable pageable);
@@ -38,4 +77,66 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
       @Param("categoryId") Long categoryId,
       @Param("creatorId") Long creatorId,
       Pageable pageable);
+
+  // Summary projection: category joined and question count aggregated in SQL,
+  // so a page of summaries never initializes the lazy associations
+  String SUMMARY_SELECT = "SELECT new com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto(" +
+      "q.id, q.title, q.description, c.id, c.name, q.duration, q.passingScore, " +
+      "(SELECT COUNT(qs.id) FROM Question qs WHERE qs.quiz = q), q.createdAt) " +
+      "FROM Quiz q JOIN q.category c ";
+
+  String SUMMARY_FILTERS = "(:title IS NULL OR q.title LIKE %:title%) AND " +
+      "(:categoryId IS NULL OR c.id = :categoryId) AND " +
+      "(:creatorId IS NULL OR q.creator.id = :creatorId) ";
+
+  @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(q) FROM Quiz q")
+  Page<QuizSummaryDto> findAllSummaries(Pageable pageable);
+
+  @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId",
+      countQuery = "SELECT COUNT(q) FROM Quiz q WHERE q.category.id = :categoryId")
+  Page<QuizSummaryDto> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+  @Query(value = SUMMARY_SELECT + "WHERE q.creator.id = :creatorId",
+      countQuery = "SELECT COUNT(q) FROM Quiz q WHERE q.creator.id = :creatorId")
+  Page<QuizSummaryDto> findSummariesByCreatorId(@Param("creatorId") Long creatorId, Pageable pageable);
+
+  // Keyset (cursor) variants of findWithFilters: each page starts strictly after
+  // the last (sortKey, id) seen, so no OFFSET scan and no COUNT query is needed
+  @Query(SUMMARY_SELECT + "WHERE " + SUMMARY_FILTERS)
+  Slice<QuizSummaryDto> findSummarySliceWithFilters(@Param("title") String title,
+      @Param("categoryId") Long categoryId,
+      @Param("creatorId") Long creatorId,
+      Pageable pageable);
+
+  @Query(SUMMARY_SELECT + "WHERE " + SUMMARY_FILTERS + "AND q.id > :lastId")
+  Slice<QuizSummaryDto> findSummarySliceWithFiltersAfterId(@Param("title") String title,
+      @Param("categoryId") Long categoryId,
+      @Param("creatorId") Long creatorId,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
+
+  @Query(SUMMARY_SELECT + "WHERE " + SUMMARY_FILTERS + "AND q.id < :lastId")
+  Slice<QuizSummaryDto> findSummarySliceWithFiltersBeforeId(@Param("title") String title,
+      @Param("categoryId") Long categoryId,
+      @Param("creatorId") Long creatorId,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
+
+  @Query(SUMMARY_SELECT + "WHERE " + SUMMARY_FILTERS +
+      "AND (q.createdAt > :lastCreatedAt OR (q.createdAt = :lastCreatedAt AND q.id > :lastId))")
+  Slice<QuizSummaryDto> findSummarySliceWithFiltersAfterCreatedAt(@Param("title") String title,
+      @Param("categoryId") Long categoryId,
+      @Param("creatorId") Long creatorId,
+      @Param("lastCreatedAt") Instant lastCreatedAt,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
+
+  @Query(SUMMARY_SELECT + "WHERE " + SUMMARY_FILTERS +
+      "AND (q.createdAt < :lastCreatedAt OR (q.createdAt = :lastCreatedAt AND q.id < :lastId))")
+  Slice<QuizSummaryDto> findSummarySliceWithFiltersBeforeCreatedAt(@Param("title") String title,
+      @Param("categoryId") Long categoryId,
+      @Param("creatorId") Long creatorId,
+      @Param("lastCreatedAt") Instant lastCreatedAt,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
 }
@@ -0,0 +1,112 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.quiz_boot.modules.quiz.dto.response.CategorySummaryDto;
+import com.example.quiz_boot.modules.quiz.mapper.CategoryMapper;
+import com.example.quiz_boot.modules.quiz.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Immutable in-memory snapshot of the full category list.
+ * Built lazily on first read and swapped atomically after every committed
+ * category change, so readers never touch the database or re-serialize.
+ */
+@Component
+public class CategoryCatalog {
+  private static final Logger logger = LoggerFactory.getLogger(CategoryCatalog.class);
+
+  /**
+   * One published version of the catalogue: the DTOs, their JSON and a
+   * strong ETag over the JSON bytes. Callers must not modify the DTOs.
+   */
+  public record Snapshot(List<CategorySummaryDto> categories, byte[] json, String etag) {
+  }
+
+  private final CategoryRepository categoryRepository;
+  private final CategoryMapper categoryMapper;
+  private final ObjectMapper objectMapper;
+
+  private volatile Snapshot snapshot;
+
+  public CategoryCatalog(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+      ObjectMapper objectMapper) {
+    this.categoryRepository = categoryRepository;
+    this.categoryMapper = categoryMapper;
+    this.objectMapper = objectMapper;
+  }
+
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      return snapshot != null ? snapshot : refresh();
+    }
+  }
+
+  /**
+   * Rebuilds the snapshot once the current transaction commits, or right
+   * away when called outside a transaction.
+   */
+  public void refreshAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      refreshOrClear();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        refreshOrClear();
+      }
+    });
+  }
+
+  // Rebuilds are serialized so the last one to run always reflects the latest commit
+  synchronized Snapshot refresh() {
+    List<CategorySummaryDto> categories = List.copyOf(
+        categoryMapper.toSummaryDtoList(categoryRepository.findAll(Sort.by("id"))));
+    byte[] json;
+    try {
+      json = objectMapper.writeValueAsBytes(categories);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize category catalogue", e);
+    }
+
+    Snapshot built = new Snapshot(categories, json, etag(json));
+    snapshot = built;
+    logger.debug("Category catalogue rebuilt: {} categories, etag {}", categories.size(), built.etag());
+    return built;
+  }
+
+  private void refreshOrClear() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      // Drop the stale snapshot; the next read rebuilds it
+      logger.error("Category catalogue rebuild failed: {}", e.getMessage());
+      snapshot = null;
+    }
+  }
+
+  private static String etag(byte[] json) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+      return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
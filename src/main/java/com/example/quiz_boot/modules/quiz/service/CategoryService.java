@@ -1,5 +1,6 @@
 package com.example.quiz_boot.modules.quiz.service;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -28,13 +29,19 @@ public class CategoryService {
   private final CategoryRepository categoryRepository;
   private final CategoryValidation categoryValidation;
   private final CategoryMapper categoryMapper;
+  private final QuizContentCache quizContentCache;
+  private final CategoryCatalog categoryCatalog;
 
   public CategoryService(CategoryRepository categoryRepository,
       CategoryValidation categoryValidation,
-      CategoryMapper categoryMapper) {
+      CategoryMapper categoryMapper,
+      QuizContentCache quizContentCache,
+      CategoryCatalog categoryCatalog) {
     this.categoryRepository = categoryRepository;
     this.categoryValidation = categoryValidation;
     this.categoryMapper = categoryMapper;
+    this.quizContentCache = quizContentCache;
+    this.categoryCatalog = categoryCatalog;
   }
 
   @Transactional
@@ -64,6 +71,7 @@ public class CategoryService {
 
       // Convert to entity and save
       Category savedCategory = categoryRepository.save(categoryMapper.toEntity(normalizedCategory));
+      categoryCatalog.refreshAfterCommit();
 
       // Audit: Log successful category creation
       logger.info("AUDIT: Category created successfully with ID: {}", savedCategory.getId());
@@ -108,6 +116,9 @@ public class CategoryService {
       // Update entity
       categoryMapper.updateEntity(existingCategory, normalizedUpdate);
       Category updatedCategory = categoryRepository.save(existingCategory);
+      // Cached quiz details embed the category, so drop them all (category edits are rare)
+      quizContentCache.invalidateAll();
+      categoryCatalog.refreshAfterCommit();
 
       logger.info("AUDIT: Category updated successfully with ID: {}", updatedCategory.getId());
 
@@ -142,12 +153,33 @@ public class CategoryService {
     }
   }
 
+  public Instant getCategoryLastModified(Long id) {
+    if (id == null || id <= 0) {
+      throw new InvalidCategoryException("Category ID must be valid");
+    }
+
+    try {
+      return categoryRepository.findUpdatedAtById(id)
+          .orElseThrow(() -> new CategoryNotFoundException("Category not found with ID: " + id));
+    } catch (CategoryNotFoundException e) {
+      logger.warn("Category retrieval failed: {}", e.getMessage());
+      throw e;
+    } catch (Exception e) {
+      logger.error("AUDIT: Category retrieval failed due to database error: {}", e.getMessage());
+      throw new InvalidCategoryException("Failed to retrieve category due to database error", e);
+    }
+  }
+
   public List<CategorySummaryDto> getAllCategories() {
-    logger.debug("Retrieving all categories");
+    return getCategoryCatalog().categories();
+  }
 
+  /**
+   * Current catalogue snapshot; only hits the database on first use after startup or a failed rebuild
+   */
+  public CategoryCatalog.Snapshot getCategoryCatalog() {
     try {
-      List<Category> categories = categoryRepository.findAll();
-      return categoryMapper.toSummaryDtoList(categories);
+      return categoryCatalog.current();
     } catch (Exception e) {
       logger.error("AUDIT: Categories retrieval failed due to database error: {}", e.getMessage());
       throw new InvalidCategoryException("Failed to retrieve categories due to database error", e);
@@ -180,6 +212,7 @@ public class CategoryService {
       }
 
       categoryRepository.deleteById(id);
+      categoryCatalog.refreshAfterCommit();
       logger.info("AUDIT: Category deleted successfully with ID: {}", id);
     } catch (CategoryNotFoundException e) {
       logger.warn("AUDIT: Category deletion failed: {}", e.getMessage());
@@ -1,11 +1,15 @@
 package com.example.quiz_boot.modules.quiz.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.example.quiz_boot.modules.quiz.dto.request.QuestionCreateDto;
@@ -14,9 +18,11 @@ import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto;
 import com.example.quiz_boot.modules.quiz.exception.InvalidQuestionException;
 import com.example.quiz_boot.modules.quiz.exception.QuestionNotFoundException;
+import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
 import com.example.quiz_boot.modules.quiz.mapper.QuestionMapper;
 import com.example.quiz_boot.modules.quiz.model.Question;
 import com.example.quiz_boot.modules.quiz.repository.QuestionRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
 import com.example.quiz_boot.modules.quiz.validation.QuestionValidation;
 
 import jakarta.transaction.Transactional;
@@ -25,16 +31,24 @@ import jakarta.transaction.Transactional;
 public class QuestionService {
   private static final Logger logger = LoggerFactory.getLogger(QuestionService.class);
 
+  private static final Pageable STREAM_CHUNK = PageRequest.of(0, 500);
+
   private final QuestionRepository questionRepository;
   private final QuestionValidation questionValidation;
   private final QuestionMapper questionMapper;
+  private final QuizContentCache quizContentCache;
+  private final QuizRepository quizRepository;
 
   public QuestionService(QuestionRepository questionRepository,
       QuestionValidation questionValidation,
-      QuestionMapper questionMapper) {
+      QuestionMapper questionMapper,
+      QuizContentCache quizContentCache,
+      QuizRepository quizRepository) {
     this.questionRepository = questionRepository;
     this.questionValidation = questionValidation;
     this.questionMapper = questionMapper;
+    this.quizContentCache = quizContentCache;
+    this.quizRepository = quizRepository;
   }
 
   @Transactional
@@ -85,6 +99,7 @@ public class QuestionService {
 
       // Convert to entity and save
       Question savedQuestion = questionRepository.save(questionMapper.toEntity(normalizedQuestion));
+      quizChanged(normalizedQuestion.getQuizId());
 
       // Audit: Log successful question creation
       logger.info("AUDIT: Question created successfully with ID: {}", savedQuestion.getId());
@@ -137,7 +152,10 @@ public class QuestionService {
 
       // Update entity
       questionMapper.updateEntity(existingQuestion, normalizedUpdate);
+      // Option-only edits leave the question row clean, so bump its version explicitly
+      existingQuestion.setUpdatedAt(Instant.now());
       Question updatedQuestion = questionRepository.save(existingQuestion);
+      quizChanged(updatedQuestion.getQuiz().getId());
 
       logger.info("AUDIT: Question updated successfully with ID: {}", updatedQuestion.getId());
 
@@ -172,6 +190,42 @@ public class QuestionService {
     }
   }
 
+  public Instant getQuestionLastModified(Long id) {
+    if (id == null || id <= 0) {
+      throw new InvalidQuestionException("Question ID must be valid");
+    }
+
+    try {
+      return questionRepository.findUpdatedAtById(id)
+          .orElseThrow(() -> new QuestionNotFoundException("Question not found with ID: " + id));
+    } catch (QuestionNotFoundException e) {
+      logger.warn("Question retrieval failed: {}", e.getMessage());
+      throw e;
+    } catch (Exception e) {
+      logger.error("AUDIT: Question retrieval failed due to database error: {}", e.getMessage());
+      throw new InvalidQuestionException("Failed to retrieve question due to database error", e);
+    }
+  }
+
+  /**
+   * Last-modified time of a quiz's question list (question writes bump the
+   * quiz), or null when the quiz does not exist
+   */
+  public Instant getQuestionsLastModified(Long quizId) {
+    if (quizId == null || quizId <= 0) {
+      throw new InvalidQuestionException("Quiz ID must be valid");
+    }
+
+    try {
+      return quizRepository.findLastModifiedById(quizId)
+          .map(QuizRepository.LastModifiedView::getQuizUpdatedAt)
+          .orElse(null);
+    } catch (Exception e) {
+      logger.error("AUDIT: Questions retrieval failed due to database error: {}", e.getMessage());
+      throw new InvalidQuestionException("Failed to retrieve questions due to database error", e);
+    }
+  }
+
   public List<QuestionSummaryDto> getQuestionsByQuizId(Long quizId) {
     logger.debug("Retrieving questions for quiz ID: {}", quizId);
 
@@ -196,7 +250,10 @@ public class QuestionService {
     }
 
     try {
-      Page<Question> questions = questionRepository.findAll(pageable);
+      // Always in display order so the (quiz_id, question_order) index serves the page
+      Pageable ordered = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+          Sort.by("questionOrder", "id"));
+      Page<Question> questions = questionRepository.findByQuizId(quizId, ordered);
       return questions.map(questionMapper::toSummaryDto);
     } catch (Exception e) {
       logger.error("AUDIT: Questions retrieval failed due to database error: {}", e.getMessage());
@@ -204,6 +261,50 @@ public class QuestionService {
     }
   }
 
+  /**
+   * Throws QuizNotFoundException unless the quiz exists; lets a streaming
+   * caller fail before it starts writing a response
+   */
+  public void requireQuiz(Long quizId) {
+    if (quizId == null || quizId <= 0) {
+      throw new InvalidQuestionException("Quiz ID must be valid");
+    }
+    if (!quizRepository.existsById(quizId)) {
+      throw new QuizNotFoundException("Quiz not found with ID: " + quizId);
+    }
+  }
+
+  /**
+   * Passes every question summary of a quiz to the consumer, in display
+   * order. Rows are read in keyset chunks, each its own short query, so
+   * memory stays flat and no connection is held while the consumer writes.
+   */
+  public void streamQuestionsByQuizId(Long quizId, Consumer<QuestionSummaryDto> consumer) {
+    logger.debug("Streaming questions for quiz ID: {}", quizId);
+
+    if (quizId == null || quizId <= 0) {
+      throw new InvalidQuestionException("Quiz ID must be valid");
+    }
+
+    int afterOrder = Integer.MIN_VALUE;
+    long afterId = 0;
+    List<QuestionSummaryDto> chunk;
+    do {
+      try {
+        chunk = questionRepository.findSummariesAfter(quizId, afterOrder, afterId, STREAM_CHUNK);
+      } catch (Exception e) {
+        logger.error("AUDIT: Questions streaming failed due to database error: {}", e.getMessage());
+        throw new InvalidQuestionException("Failed to stream questions due to database error", e);
+      }
+      chunk.forEach(consumer);
+      if (!chunk.isEmpty()) {
+        QuestionSummaryDto last = chunk.get(chunk.size() - 1);
+        afterOrder = last.getQuestionOrder();
+        afterId = last.getId();
+      }
+    } while (chunk.size() == STREAM_CHUNK.getPageSize());
+  }
+
   @Transactional
   public void deleteQuestion(Long id) {
     logger.info("AUDIT: Deleting question with ID: {}", id);
@@ -213,11 +314,11 @@ public class QuestionService {
     }
 
     try {
-      if (!questionRepository.existsById(id)) {
-        throw new QuestionNotFoundException("Question not found with ID: " + id);
-      }
+      Question question = questionRepository.findById(id)
+          .orElseThrow(() -> new QuestionNotFoundException("Question not found with ID: " + id));
 
-      questionRepository.deleteById(id);
+      questionRepository.delete(question);
+      quizChanged(question.getQuiz().getId());
       logger.info("AUDIT: Question deleted successfully with ID: {}", id);
     } catch (QuestionNotFoundException e) {
       logger.warn("AUDIT: Question deletion failed: {}", e.getMessage());
@@ -228,6 +329,12 @@ public class QuestionService {
     }
   }
 
+  // Question writes change the quiz detail: bump its version and drop the cached copy
+  private void quizChanged(Long quizId) {
+    quizRepository.touch(quizId, Instant.now());
+    quizContentCache.invalidate(quizId);
+  }
+
   public boolean existsById(Long id) {
     if (id == null || id <= 0) {
       return false;
@@ -247,7 +354,7 @@ public class QuestionService {
     }
 
     try {
-      return questionRepository.findByQuizId(quizId).size();
+      return questionRepository.countByQuizId(quizId);
     } catch (Exception e) {
       logger.error("Error counting questions for quiz: {}", e.getMessage());
       return 0;
@@ -0,0 +1,31 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+
+/**
+ * Cached content of one quiz: the public detail served to quiz takers and,
+ * for grading only, the questions with their correct options. The questions
+ * never leave the server.
+ */
+public record QuizContent(QuizDetailDto detail, List<QuestionResponseDto> questions, Long creatorId) {
+
+  /**
+   * Whether the viewer may see the questions at the given time
+   */
+  public boolean isOpenTo(Long viewerId, boolean admin, Instant at) {
+    return isOpen(detail.getAvailableFrom(), creatorId, viewerId, admin, at);
+  }
+
+  /**
+   * Questions are hidden before availableFrom from everyone but the quiz's
+   * creator and admins
+   */
+  static boolean isOpen(Instant availableFrom, Long creatorId, Long viewerId, boolean admin, Instant at) {
+    return availableFrom == null || !at.isBefore(availableFrom) || admin
+        || (viewerId != null && viewerId.equals(creatorId));
+  }
+}
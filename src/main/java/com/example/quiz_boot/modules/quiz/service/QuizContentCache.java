@@ -0,0 +1,197 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.quiz_boot.modules.quiz.dto.response.CategoryResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionOptionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizQuestionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded in-process cache of quiz content keyed by quiz ID.
+ * Bounded by the estimated heap size of the cached DTOs rather than entry
+ * count, so a few very large quizzes cannot crowd out memory. Hit, miss and
+ * eviction metrics are published under "quiz.content".
+ * Cached DTOs are shared between requests and must not be modified.
+ * The JSON body of each quiz's public detail is cached next to it
+ * ("quiz.payload"), so a hot quiz is serialized once rather than on every
+ * request; the graded questions are never serialized. Viewers that may not
+ * see the questions yet get an uncached copy of the detail without them.
+ * Caches derived from quiz content register an invalidation listener so they
+ * are dropped together with it.
+ */
+@Component
+public class QuizContentCache {
+
+  private final Cache<Long, QuizContent> cache;
+  private final Cache<Long, byte[]> payloads;
+  private final ObjectMapper objectMapper;
+  private final List<Consumer<Long>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+  public QuizContentCache(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+      @Value("${app.cache.quiz-content.max-weight-bytes:67108864}") long maxWeightBytes,
+      @Value("${app.cache.quiz-content.max-payload-bytes:67108864}") long maxPayloadBytes) {
+    this.objectMapper = objectMapper;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxWeightBytes)
+        .weigher((Long id, QuizContent content) -> estimateWeight(content))
+        .recordStats()
+        .build();
+    this.payloads = Caffeine.newBuilder()
+        .maximumWeight(maxPayloadBytes)
+        .weigher((Long id, byte[] payload) -> payload.length)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "quiz.content");
+    CaffeineCacheMetrics.monitor(meterRegistry, payloads, "quiz.payload");
+  }
+
+  /**
+   * Registers a callback run on every invalidation, with the quiz ID or null
+   * when all quizzes were invalidated
+   */
+  public void addInvalidationListener(Consumer<Long> listener) {
+    invalidationListeners.add(listener);
+  }
+
+  public QuizContent get(Long quizId, Function<Long, QuizContent> loader) {
+    return cache.get(quizId, loader);
+  }
+
+  public QuizContent getIfPresent(Long quizId) {
+    return cache.getIfPresent(quizId);
+  }
+
+  /**
+   * The public quiz detail serialized as JSON, built from the cached content on a miss
+   */
+  public byte[] getPayload(Long quizId, Function<Long, QuizContent> loader) {
+    return getPayload(quizId, loader, content -> true);
+  }
+
+  /**
+   * As {@link #getPayload(Long, Function)}, but without the questions when the
+   * content fails the check. The check and the bytes use the same content.
+   */
+  public byte[] getPayload(Long quizId, Function<Long, QuizContent> loader, Predicate<QuizContent> showQuestions) {
+    QuizContent content = get(quizId, loader);
+    if (!showQuestions.test(content)) {
+      return serialize(withoutQuestions(content.detail()));
+    }
+    return payloads.get(quizId, id -> serialize(content.detail()));
+  }
+
+  /**
+   * True when both the DTO and its JSON body are in memory
+   */
+  public boolean isCached(Long quizId) {
+    return cache.getIfPresent(quizId) != null && payloads.getIfPresent(quizId) != null;
+  }
+
+  /**
+   * Evicts a quiz now and again after the current transaction commits, so a
+   * concurrent reader cannot re-cache the pre-commit state.
+   */
+  public void invalidate(Long quizId) {
+    if (quizId == null) {
+      return;
+    }
+    evict(quizId);
+    afterCommit(() -> evict(quizId));
+  }
+
+  public void invalidateAll() {
+    evict(null);
+    afterCommit(() -> evict(null));
+  }
+
+  private void evict(Long quizId) {
+    if (quizId == null) {
+      cache.invalidateAll();
+      payloads.invalidateAll();
+    } else {
+      cache.invalidate(quizId);
+      payloads.invalidate(quizId);
+    }
+    for (Consumer<Long> listener : invalidationListeners) {
+      listener.accept(quizId);
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    }
+  }
+
+  private byte[] serialize(QuizDetailDto detail) {
+    try {
+      return objectMapper.writeValueAsBytes(detail);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize quiz " + detail.getId(), e);
+    }
+  }
+
+  private static QuizDetailDto withoutQuestions(QuizDetailDto detail) {
+    return new QuizDetailDto(detail.getId(), detail.getTitle(), detail.getDescription(), detail.getCategory(),
+        List.of(), detail.getDuration(), detail.getPassingScore(), detail.getMaxAttempts(), detail.getCreatedAt(),
+        detail.getUpdatedAt(), detail.getAvailableFrom(), detail.getAvailableUntil());
+  }
+
+  /**
+   * Rough heap footprint of cached content: object headers plus 2 bytes per
+   * char. Texts are shared between the public and graded questions.
+   */
+  static int estimateWeight(QuizContent content) {
+    QuizDetailDto detail = content.detail();
+    long bytes = 128 + chars(detail.getTitle()) + chars(detail.getDescription());
+    CategoryResponseDto category = detail.getCategory();
+    if (category != null) {
+      bytes += 64 + chars(category.getName()) + chars(category.getDescription());
+    }
+    if (detail.getQuestions() != null) {
+      for (QuizQuestionDto question : detail.getQuestions()) {
+        bytes += 64 + (question.getOptions() != null ? 48L * question.getOptions().size() : 0);
+      }
+    }
+    List<QuestionResponseDto> questions = content.questions();
+    if (questions != null) {
+      for (QuestionResponseDto question : questions) {
+        bytes += 128 + chars(question.getQuestionText()) + chars(question.getQuestionType())
+            + chars(question.getExplanation());
+        if (question.getOptions() != null) {
+          for (QuestionOptionResponseDto option : question.getOptions()) {
+            bytes += 96 + chars(option.getOptionText()) + chars(option.getExplanation());
+          }
+        }
+      }
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  private static long chars(String value) {
+    return value == null ? 0 : 40 + 2L * value.length();
+  }
+}
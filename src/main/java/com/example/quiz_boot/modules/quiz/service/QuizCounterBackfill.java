@@ -0,0 +1,36 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills missing quiz counters at startup. A separate bean from
+ * {@link QuizCounterSeeder} so the seeder's transaction applies; the native
+ * backfill inserts need one.
+ */
+@Component
+public class QuizCounterBackfill implements CommandLineRunner {
+  private static final Logger logger = LoggerFactory.getLogger(QuizCounterBackfill.class);
+
+  private final QuizCounterSeeder quizCounterSeeder;
+
+  public QuizCounterBackfill(QuizCounterSeeder quizCounterSeeder) {
+    this.quizCounterSeeder = quizCounterSeeder;
+  }
+
+  @Override
+  public void run(String... args) {
+    try {
+      int seeded = quizCounterSeeder.seedAll();
+      if (seeded > 0) {
+        logger.info("AUDIT: Backfilled {} quiz counters", seeded);
+      }
+    } catch (DataAccessException e) {
+      // Another instance seeding at the same time; missing rows are still seeded on first write
+      logger.warn("Quiz counter backfill failed: {}", e.getMessage());
+    }
+  }
+}
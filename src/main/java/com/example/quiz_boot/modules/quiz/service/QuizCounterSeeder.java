@@ -0,0 +1,53 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.quiz.model.QuizCounter;
+import com.example.quiz_boot.modules.quiz.repository.QuizCounterRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Creates missing counter rows from the committed quiz counts.
+ * {@link QuizCounterBackfill} backfills every category and creator without a
+ * counter at startup, in one grouped INSERT ... SELECT per scope, so existing
+ * data is counted before any quiz write. A single row is seeded in its own transaction so a
+ * concurrent seed of the same row only fails the seed, never the quiz write
+ * that triggered it.
+ */
+@Component
+public class QuizCounterSeeder {
+
+  private final QuizCounterRepository quizCounterRepository;
+  private final QuizRepository quizRepository;
+
+  public QuizCounterSeeder(QuizCounterRepository quizCounterRepository, QuizRepository quizRepository) {
+    this.quizCounterRepository = quizCounterRepository;
+    this.quizRepository = quizRepository;
+  }
+
+  /**
+   * @return number of counter rows created
+   */
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public int seedAll() {
+    Instant now = Instant.now();
+    return quizCounterRepository.seedCategoryCounters(now) + quizCounterRepository.seedCreatorCounters(now);
+  }
+
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public void seed(String scope, Long ownerId) {
+    long committedCount = QuizCounter.CATEGORY.equals(scope)
+        ? quizRepository.countByCategoryId(ownerId)
+        : quizRepository.countByCreatorId(ownerId);
+
+    QuizCounter counter = new QuizCounter();
+    counter.setScope(scope);
+    counter.setOwnerId(ownerId);
+    counter.setQuizCount(committedCount);
+    quizCounterRepository.save(counter);
+  }
+}
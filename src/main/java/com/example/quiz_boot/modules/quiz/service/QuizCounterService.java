@@ -0,0 +1,85 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.quiz_boot.modules.quiz.model.QuizCounter;
+import com.example.quiz_boot.modules.quiz.repository.QuizCounterRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizCounterRepository.CountView;
+
+/**
+ * Maintains the per-category and per-creator quiz counters.
+ * Write methods must be called inside the transaction that changes the quiz.
+ */
+@Service
+public class QuizCounterService {
+  private static final Logger logger = LoggerFactory.getLogger(QuizCounterService.class);
+
+  private final QuizCounterRepository quizCounterRepository;
+  private final QuizCounterSeeder quizCounterSeeder;
+
+  public QuizCounterService(QuizCounterRepository quizCounterRepository, QuizCounterSeeder quizCounterSeeder) {
+    this.quizCounterRepository = quizCounterRepository;
+    this.quizCounterSeeder = quizCounterSeeder;
+  }
+
+  public void recordCreated(Long categoryId, Long creatorId) {
+    adjust(QuizCounter.CATEGORY, categoryId, 1);
+    adjust(QuizCounter.CREATOR, creatorId, 1);
+  }
+
+  public void recordDeleted(Long categoryId, Long creatorId) {
+    adjust(QuizCounter.CATEGORY, categoryId, -1);
+    adjust(QuizCounter.CREATOR, creatorId, -1);
+  }
+
+  public void recordCategoryChanged(Long oldCategoryId, Long newCategoryId) {
+    if (Objects.equals(oldCategoryId, newCategoryId)) {
+      return;
+    }
+    adjust(QuizCounter.CATEGORY, oldCategoryId, -1);
+    adjust(QuizCounter.CATEGORY, newCategoryId, 1);
+  }
+
+  /**
+   * Quiz counts for every category, keyed by category ID; counters are
+   * backfilled at startup, and categories created since then appear once
+   * they get their first quiz
+   */
+  public Map<Long, Long> getCategoryCounts() {
+    return quizCounterRepository.findCountsByScope(QuizCounter.CATEGORY).stream()
+        .collect(Collectors.toMap(CountView::getOwnerId, CountView::getQuizCount));
+  }
+
+  /**
+   * Quiz count for one creator, or 0 when the creator has no counter yet
+   */
+  public long getCreatorCount(Long creatorId) {
+    return quizCounterRepository.findQuizCount(QuizCounter.CREATOR, creatorId).orElse(0L);
+  }
+
+  private void adjust(String scope, Long ownerId, long delta) {
+    if (ownerId == null) {
+      return;
+    }
+
+    if (quizCounterRepository.adjust(scope, ownerId, delta, Instant.now()) > 0) {
+      return;
+    }
+
+    // First write for this owner: seed from the committed count, then apply our delta
+    try {
+      quizCounterSeeder.seed(scope, ownerId);
+    } catch (DataAccessException e) {
+      logger.debug("Counter {}:{} seeded concurrently: {}", scope, ownerId, e.getMessage());
+    }
+    quizCounterRepository.adjust(scope, ownerId, delta, Instant.now());
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
+import com.example.quiz_boot.modules.quiz.exception.InvalidQuizException;
+
+/**
+ * Opaque continuation token for keyset pagination of quiz summaries.
+ * Encodes the sort key, direction and the last (sortValue, id) pair returned.
+ */
+public record QuizCursor(String sortKey, boolean ascending, Instant lastCreatedAt, long lastId) {
+
+  private static final String VERSION = "v1";
+
+  public static QuizCursor after(QuizSummaryDto last, String sortKey, boolean ascending) {
+    return new QuizCursor(sortKey, ascending, last.getCreatedAt(), last.getId());
+  }
+
+  public String encode() {
+    String raw = String.join("|", VERSION, sortKey, ascending ? "asc" : "desc",
+        lastCreatedAt != null ? lastCreatedAt.toString() : "", Long.toString(lastId));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static QuizCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", -1);
+      if (parts.length != 5 || !VERSION.equals(parts[0])) {
+        throw new InvalidQuizException("Invalid cursor");
+      }
+      Instant createdAt = parts[3].isEmpty() ? null : Instant.parse(parts[3]);
+      return new QuizCursor(parts[1], "asc".equals(parts[2]), createdAt, Long.parseLong(parts[4]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidQuizException("Invalid cursor", e);
+    }
+  }
+}
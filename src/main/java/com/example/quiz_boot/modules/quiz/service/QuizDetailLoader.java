@@ -0,0 +1,48 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
+import com.example.quiz_boot.modules.quiz.mapper.QuestionMapper;
+import com.example.quiz_boot.modules.quiz.mapper.QuizMapper;
+import com.example.quiz_boot.modules.quiz.model.Question;
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.quiz.repository.QuestionRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+
+/**
+ * Loads the full quiz graph from the database.
+ * Kept separate from QuizService so cache hits never open a transaction.
+ */
+@Component
+public class QuizDetailLoader {
+
+  private final QuizRepository quizRepository;
+  private final QuestionRepository questionRepository;
+  private final QuizMapper quizMapper;
+  private final QuestionMapper questionMapper;
+
+  public QuizDetailLoader(QuizRepository quizRepository, QuestionRepository questionRepository,
+      QuizMapper quizMapper, QuestionMapper questionMapper) {
+    this.quizRepository = quizRepository;
+    this.questionRepository = questionRepository;
+    this.quizMapper = quizMapper;
+    this.questionMapper = questionMapper;
+  }
+
+  /**
+   * Two statements: quiz with category, then questions with options in display order
+   */
+  @Transactional(readOnly = true)
+  public QuizContent load(Long id) {
+    Quiz quiz = quizRepository.findByIdWithCategory(id)
+        .orElseThrow(() -> new QuizNotFoundException("Quiz not found with ID: " + id));
+    List<Question> questions = questionRepository.findByQuizIdWithOptions(id);
+
+    return new QuizContent(quizMapper.toDetailDto(quiz, questions), questionMapper.toResponseDtoList(questions),
+        quiz.getCreator().getId());
+  }
+}
@@ -1,19 +1,26 @@
 package com.example.quiz_boot.modules.quiz.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.example.quiz_boot.modules.quiz.dto.request.QuizCreateDto;
 import com.example.quiz_boot.modules.quiz.dto.request.QuizUpdateDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizCursorPageDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizResponseDto;
 import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
+import com.example.quiz_boot.modules.quiz.exception.CategoryNotFoundException;
 import com.example.quiz_boot.modules.quiz.exception.InvalidQuizException;
 import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
 import com.example.quiz_boot.modules.quiz.mapper.QuizMapper;
@@ -30,11 +37,19 @@ public class QuizService {
     private final QuizRepository quizRepository;
     private final QuizValidation quizValidation;
     private final QuizMapper quizMapper;
+    private final QuizCounterService quizCounterService;
+    private final QuizDetailLoader quizDetailLoader;
+    private final QuizContentCache quizContentCache;
 
-    public QuizService(QuizRepository quizRepository, QuizValidation quizValidation, QuizMapper quizMapper) {
+    public QuizService(QuizRepository quizRepository, QuizValidation quizValidation, QuizMapper quizMapper,
+            QuizCounterService quizCounterService, QuizDetailLoader quizDetailLoader,
+            QuizContentCache quizContentCache) {
         this.quizRepository = quizRepository;
         this.quizValidation = quizValidation;
         this.quizMapper = quizMapper;
+        this.quizCounterService = quizCounterService;
+        this.quizDetailLoader = quizDetailLoader;
+        this.quizContentCache = quizContentCache;
     }
 
     @Transactional
@@ -57,6 +72,11 @@ public class QuizService {
             throw new InvalidQuizException("Invalid quiz data provided");
         }
 
+        if (!quizValidation.isValidAvailability(quizCreateDto.getAvailableFrom(), quizCreateDto.getAvailableUntil())) {
+            logger.warn("AUDIT: Quiz creation failed: availability window ends before it starts");
+            throw new InvalidQuizException("Quiz availability must end after it starts");
+        }
+
         try {
             // Create normalized quiz
             QuizCreateDto normalizedQuiz = new QuizCreateDto();
@@ -69,9 +89,12 @@ public class QuizService {
             normalizedQuiz.setDuration(quizCreateDto.getDuration());
             normalizedQuiz.setPassingScore(quizCreateDto.getPassingScore());
             normalizedQuiz.setMaxAttempts(quizCreateDto.getMaxAttempts());
+            normalizedQuiz.setAvailableFrom(quizCreateDto.getAvailableFrom());
+            normalizedQuiz.setAvailableUntil(quizCreateDto.getAvailableUntil());
 
             // Convert to entity and save
             Quiz savedQuiz = quizRepository.save(quizMapper.toEntity(normalizedQuiz));
+            quizCounterService.recordCreated(savedQuiz.getCategory().getId(), savedQuiz.getCreator().getId());
 
             // Audit: Log successful quiz creation
             logger.info("AUDIT: Quiz created successfully with ID: {}", savedQuiz.getId());
@@ -118,15 +141,28 @@ public class QuizService {
             normalizedUpdate.setDuration(quizUpdateDto.getDuration());
             normalizedUpdate.setPassingScore(quizUpdateDto.getPassingScore());
             normalizedUpdate.setMaxAttempts(quizUpdateDto.getMaxAttempts());
+            normalizedUpdate.setAvailableFrom(quizUpdateDto.getAvailableFrom());
+            normalizedUpdate.setAvailableUntil(quizUpdateDto.getAvailableUntil());
+
+            Instant availableFrom = quizUpdateDto.getAvailableFrom() != null
+                    ? quizUpdateDto.getAvailableFrom() : existingQuiz.getAvailableFrom();
+            Instant availableUntil = quizUpdateDto.getAvailableUntil() != null
+                    ? quizUpdateDto.getAvailableUntil() : existingQuiz.getAvailableUntil();
+            if (!quizValidation.isValidAvailability(availableFrom, availableUntil)) {
+                throw new InvalidQuizException("Quiz availability must end after it starts");
+            }
 
             // Update entity
+            Long previousCategoryId = existingQuiz.getCategory().getId();
             quizMapper.updateEntity(existingQuiz, normalizedUpdate);
             Quiz updatedQuiz = quizRepository.save(existingQuiz);
+            quizCounterService.recordCategoryChanged(previousCategoryId, updatedQuiz.getCategory().getId());
+            quizContentCache.invalidate(updatedQuiz.getId());
 
             logger.info("AUDIT: Quiz updated successfully with ID: {}", updatedQuiz.getId());
 
             return quizMapper.toResponseDto(updatedQuiz);
-        } catch (QuizNotFoundException e) {
+        } catch (QuizNotFoundException | CategoryNotFoundException | InvalidQuizException e) {
             logger.warn("AUDIT: Quiz update failed: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
@@ -135,7 +171,11 @@ public class QuizService {
         }
     }
 
-    public QuizDetailDto getQuizById(Long id) {
+    /**
+     * The quiz content including correct options, for server-side grading;
+     * never serve it to clients (see {@link #getQuizPayload(Long, Long, boolean)})
+     */
+    public QuizContent getQuizContent(Long id) {
         logger.debug("Retrieving quiz with ID: {}", id);
 
         if (id == null || id <= 0) {
@@ -143,10 +183,115 @@ public class QuizService {
         }
 
         try {
-            Quiz quiz = quizRepository.findById(id)
+            // Served from memory when cached; misses load the graph in its own read transaction
+            return quizContentCache.get(id, quizDetailLoader::load);
+        } catch (QuizNotFoundException e) {
+            logger.warn("Quiz retrieval failed: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("AUDIT: Quiz retrieval failed due to database error: {}", e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve quiz due to database error", e);
+        }
+    }
+
+    /**
+     * The quiz detail as a ready-made JSON body, served from memory when cached.
+     * Before availableFrom the questions are left out unless the viewer is the
+     * quiz's creator or an admin.
+     *
+     * @param viewerId the requesting user's ID, or null when anonymous
+     * @param admin    whether the requesting user is an admin
+     */
+    public byte[] getQuizPayload(Long id, Long viewerId, boolean admin) {
+        Instant now = Instant.now();
+        return loadPayload(id, content -> content.isOpenTo(viewerId, admin, now));
+    }
+
+    /**
+     * Loads the quiz content and its full JSON body into memory ahead of the
+     * quiz opening; nothing is returned, so nothing can leak early
+     */
+    public void warmQuizPayload(Long id) {
+        loadPayload(id, content -> true);
+    }
+
+    private byte[] loadPayload(Long id, Predicate<QuizContent> showQuestions) {
+        if (id == null || id <= 0) {
+            throw new InvalidQuizException("Quiz ID must be valid");
+        }
+
+        try {
+            return quizContentCache.getPayload(id, quizDetailLoader::load, showQuestions);
+        } catch (QuizNotFoundException e) {
+            logger.warn("Quiz retrieval failed: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("AUDIT: Quiz retrieval failed due to database error: {}", e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve quiz due to database error", e);
+        }
+    }
+
+    public boolean isQuizContentCached(Long id) {
+        return quizContentCache.isCached(id);
+    }
+
+    /**
+     * IDs of quizzes whose availability starts in (from, to]
+     */
+    public List<Long> getQuizIdsAvailableFrom(Instant from, Instant to) {
+        return quizRepository.findIdsByAvailableFromBetween(from, to);
+    }
+
+    /**
+     * Whether the viewer may see the quiz's questions now; see
+     * {@link #getQuizPayload(Long, Long, boolean)}. Answered from the cached
+     * content or a single-row query, so it never loads questions.
+     */
+    public boolean isQuizOpenTo(Long id, Long viewerId, boolean admin) {
+        if (id == null || id <= 0) {
+            throw new InvalidQuizException("Quiz ID must be valid");
+        }
+
+        Instant now = Instant.now();
+        QuizContent content = quizContentCache.getIfPresent(id);
+        if (content != null) {
+            return content.isOpenTo(viewerId, admin, now);
+        }
+
+        try {
+            return quizRepository.findLastModifiedById(id)
+                    .map(view -> QuizContent.isOpen(view.getAvailableFrom(), view.getCreatorId(), viewerId, admin,
+                            now))
                     .orElseThrow(() -> new QuizNotFoundException("Quiz not found with ID: " + id));
+        } catch (QuizNotFoundException e) {
+            logger.warn("Quiz retrieval failed: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("AUDIT: Quiz retrieval failed due to database error: {}", e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve quiz due to database error", e);
+        }
+    }
 
-            return quizMapper.toDetailDto(quiz);
+    /**
+     * Last-modified time of the quiz detail: the later of the quiz and its
+     * category. Question writes bump the quiz, so children never need loading.
+     */
+    public Instant getQuizLastModified(Long id) {
+        if (id == null || id <= 0) {
+            throw new InvalidQuizException("Quiz ID must be valid");
+        }
+
+        QuizContent content = quizContentCache.getIfPresent(id);
+        if (content != null) {
+            QuizDetailDto cached = content.detail();
+            return latest(cached.getUpdatedAt(),
+                    cached.getCategory() != null ? cached.getCategory().getUpdatedAt() : null);
+        }
+
+        try {
+            return quizRepository.findLastModifiedById(id)
+                    .map(view -> latest(view.getQuizUpdatedAt(), view.getCategoryUpdatedAt()))
+                    .orElseThrow(() -> new QuizNotFoundException("Quiz not found with ID: " + id));
         } catch (QuizNotFoundException e) {
             logger.warn("Quiz retrieval failed: {}", e.getMessage());
             throw e;
@@ -156,6 +301,13 @@ public class QuizService {
         }
     }
 
+    private static Instant latest(Instant quizUpdatedAt, Instant categoryUpdatedAt) {
+        if (categoryUpdatedAt == null || quizUpdatedAt.isAfter(categoryUpdatedAt)) {
+            return quizUpdatedAt;
+        }
+        return categoryUpdatedAt;
+    }
+
     public List<QuizSummaryDto> getAllQuizzes() {
         logger.debug("Retrieving all quizzes");
 
@@ -172,8 +324,7 @@ public class QuizService {
         logger.debug("Retrieving quizzes with pagination: {}", pageable);
 
         try {
-            Page<Quiz> quizzes = quizRepository.findAll(pageable);
-            return quizzes.map(quizMapper::toSummaryDto);
+            return quizRepository.findAllSummaries(pageable);
         } catch (Exception e) {
             logger.error("AUDIT: Quizzes retrieval failed due to database error: {}", e.getMessage());
             throw new InvalidQuizException("Failed to retrieve quizzes due to database error", e);
@@ -220,23 +371,8 @@ public class QuizService {
         }
 
         try {
-            // Since repository doesn't have paginated method, we'll use a workaround
-            // First get all quizzes by category, then create a Page manually
-            List<Quiz> allQuizzes = quizRepository.findByCategoryId(categoryId);
-
-            // Calculate pagination manually
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allQuizzes.size());
-
-            if (start > allQuizzes.size()) {
-                // Return empty page if start is beyond the list
-                return Page.empty(pageable);
-            }
-
-            List<Quiz> pageContent = allQuizzes.subList(start, end);
-            List<QuizSummaryDto> dtoContent = quizMapper.toSummaryDtoList(pageContent);
-
-            return new PageImpl<>(dtoContent, pageable, allQuizzes.size());
+            // Paging and sorting run in SQL over the (category_id, id) index
+            return quizRepository.findSummariesByCategoryId(categoryId, pageable);
         } catch (Exception e) {
             logger.error("AUDIT: Paginated quizzes retrieval by category failed due to database error: {}",
                     e.getMessage());
@@ -252,27 +388,64 @@ public class QuizService {
         }
 
         try {
-            // Since repository doesn't have paginated method, we'll use a workaround
-            // First get all quizzes by creator, then create a Page manually
-            List<Quiz> allQuizzes = quizRepository.findByCreatorId(creatorId);
+            // Paging and sorting run in SQL over the (creator_id, id) index
+            return quizRepository.findSummariesByCreatorId(creatorId, pageable);
+        } catch (Exception e) {
+            logger.error("AUDIT: Paginated quizzes retrieval by creator failed due to database error: {}",
+                    e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve paginated quizzes by creator due to database error", e);
+        }
+    }
 
-            // Calculate pagination manually
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allQuizzes.size());
+    public QuizCursorPageDto getQuizzesByCursor(String cursor, int size, String sortKey, boolean ascending,
+            Long categoryId, Long creatorId) {
+        logger.debug("Retrieving quizzes by cursor: {} (size {}, sort {} {})", cursor, size, sortKey,
+                ascending ? "asc" : "desc");
 
-            if (start > allQuizzes.size()) {
-                // Return empty page if start is beyond the list
-                return Page.empty(pageable);
+        if (!"id".equals(sortKey) && !"createdAt".equals(sortKey)) {
+            throw new InvalidQuizException("Cursor pagination supports sorting by id or createdAt only");
+        }
+
+        QuizCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = QuizCursor.decode(cursor);
+            if (!position.sortKey().equals(sortKey) || position.ascending() != ascending) {
+                throw new InvalidQuizException("Cursor does not match the requested sort order");
             }
+        }
 
-            List<Quiz> pageContent = allQuizzes.subList(start, end);
-            List<QuizSummaryDto> dtoContent = quizMapper.toSummaryDtoList(pageContent);
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = "id".equals(sortKey)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortKey).and(Sort.by(direction, "id"));
+        Pageable pageable = PageRequest.of(0, size, sort);
 
-            return new PageImpl<>(dtoContent, pageable, allQuizzes.size());
+        try {
+            Slice<QuizSummaryDto> slice;
+            if (position == null) {
+                slice = quizRepository.findSummarySliceWithFilters(null, categoryId, creatorId, pageable);
+            } else if ("id".equals(sortKey)) {
+                slice = ascending
+                        ? quizRepository.findSummarySliceWithFiltersAfterId(
+                                null, categoryId, creatorId, position.lastId(), pageable)
+                        : quizRepository.findSummarySliceWithFiltersBeforeId(
+                                null, categoryId, creatorId, position.lastId(), pageable);
+            } else {
+                slice = ascending
+                        ? quizRepository.findSummarySliceWithFiltersAfterCreatedAt(
+                                null, categoryId, creatorId, position.lastCreatedAt(), position.lastId(), pageable)
+                        : quizRepository.findSummarySliceWithFiltersBeforeCreatedAt(
+                                null, categoryId, creatorId, position.lastCreatedAt(), position.lastId(), pageable);
+            }
+
+            List<QuizSummaryDto> content = slice.getContent();
+            String nextCursor = slice.hasNext() && !content.isEmpty()
+                    ? QuizCursor.after(content.get(content.size() - 1), sortKey, ascending).encode()
+                    : null;
+            return new QuizCursorPageDto(content, content.size(), slice.hasNext(), nextCursor);
         } catch (Exception e) {
-            logger.error("AUDIT: Paginated quizzes retrieval by creator failed due to database error: {}",
-                    e.getMessage());
-            throw new InvalidQuizException("Failed to retrieve paginated quizzes by creator due to database error", e);
+            logger.error("AUDIT: Cursor quizzes retrieval failed due to database error: {}", e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve quizzes due to database error", e);
         }
     }
 
@@ -285,11 +458,12 @@ public class QuizService {
         }
 
         try {
-            if (!quizRepository.existsById(id)) {
-                throw new QuizNotFoundException("Quiz not found with ID: " + id);
-            }
+            Quiz quiz = quizRepository.findById(id)
+                    .orElseThrow(() -> new QuizNotFoundException("Quiz not found with ID: " + id));
 
-            quizRepository.deleteById(id);
+            quizRepository.delete(quiz);
+            quizCounterService.recordDeleted(quiz.getCategory().getId(), quiz.getCreator().getId());
+            quizContentCache.invalidate(id);
             logger.info("AUDIT: Quiz deleted successfully with ID: {}", id);
         } catch (QuizNotFoundException e) {
             logger.warn("AUDIT: Quiz deletion failed: {}", e.getMessage());
@@ -319,7 +493,7 @@ public class QuizService {
         }
 
         try {
-            return quizRepository.findByCategoryId(categoryId).size();
+            return quizRepository.countByCategoryId(categoryId);
         } catch (Exception e) {
             logger.error("Error counting quizzes for category: {}", e.getMessage());
             return 0;
@@ -332,10 +506,32 @@ public class QuizService {
         }
 
         try {
-            return quizRepository.findByCreatorId(creatorId).size();
+            return quizRepository.countByCreatorId(creatorId);
         } catch (Exception e) {
             logger.error("Error counting quizzes for creator: {}", e.getMessage());
             return 0;
         }
     }
+
+    public Map<Long, Long> getQuizCountsByCategory() {
+        try {
+            return quizCounterService.getCategoryCounts();
+        } catch (Exception e) {
+            logger.error("Error reading quiz counters by category: {}", e.getMessage());
+            throw new InvalidQuizException("Failed to retrieve quiz counts due to database error", e);
+        }
+    }
+
+    public long getQuizCountByCreator(Long creatorId) {
+        if (creatorId == null || creatorId <= 0) {
+            return 0;
+        }
+
+        try {
+            return quizCounterService.getCreatorCount(creatorId);
+        } catch (Exception e) {
+            logger.error("Error reading quiz counter for creator: {}", e.getMessage());
+            return 0;
+        }
+    }
 }
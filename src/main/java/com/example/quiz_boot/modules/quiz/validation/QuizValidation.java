@@ -1,5 +1,7 @@
 package com.example.quiz_boot.modules.quiz.validation;
 
+import java.time.Instant;
+
 import org.springframework.stereotype.Component;
 
 @Component
@@ -46,6 +48,14 @@ public class QuizValidation {
     return timeLimit == null || (timeLimit > 0 && timeLimit <= 480); // Max 8 hours
   }
 
+  /**
+   * Validates the availability window: either side may be open, but a closed
+   * window must end after it starts
+   */
+  public boolean isValidAvailability(Instant availableFrom, Instant availableUntil) {
+    return availableFrom == null || availableUntil == null || availableUntil.isAfter(availableFrom);
+  }
+
   /**
    * Validates if quiz has minimum required questions
    */
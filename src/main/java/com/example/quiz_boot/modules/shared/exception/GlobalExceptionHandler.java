@@ -1,5 +1,8 @@
 package com.example.quiz_boot.modules.shared.exception;
 
+import com.example.quiz_boot.modules.attempt.exception.AttemptLimitExceededException;
+import com.example.quiz_boot.modules.attempt.exception.AttemptServiceBusyException;
+import com.example.quiz_boot.modules.attempt.exception.InvalidAttemptException;
 import com.example.quiz_boot.modules.quiz.exception.InvalidQuizException;
 import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
 import com.example.quiz_boot.modules.quiz.exception.CategoryNotFoundException;
@@ -7,7 +10,12 @@ import com.example.quiz_boot.modules.quiz.exception.QuestionNotFoundException;
 import com.example.quiz_boot.modules.user.exception.InvalidUserException;
 import com.example.quiz_boot.modules.user.exception.UserNotFoundException;
 import com.example.quiz_boot.modules.user.exception.DatabaseOperationException;
+import com.example.quiz_boot.modules.user.exception.AuthServiceBusyException;
+import com.example.quiz_boot.modules.user.exception.LoginThrottledException;
+import com.example.quiz_boot.modules.user.exception.InvalidTokenException;
+import com.example.quiz_boot.modules.user.exception.UserImportInProgressException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -42,12 +50,35 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
   }
 
+  // Attempt Module Exceptions
+  @ExceptionHandler(InvalidAttemptException.class)
+  public ResponseEntity<String> handleInvalidAttemptException(InvalidAttemptException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+  }
+
+  @ExceptionHandler(AttemptLimitExceededException.class)
+  public ResponseEntity<String> handleAttemptLimitExceededException(AttemptLimitExceededException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+  }
+
+  @ExceptionHandler(AttemptServiceBusyException.class)
+  public ResponseEntity<String> handleAttemptServiceBusyException(AttemptServiceBusyException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ex.getMessage());
+  }
+
   // User Module Exceptions
   @ExceptionHandler(InvalidUserException.class)
   public ResponseEntity<String> handleInvalidUserException(InvalidUserException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
   }
 
+  @ExceptionHandler(InvalidTokenException.class)
+  public ResponseEntity<String> handleInvalidTokenException(InvalidTokenException ex) {
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
+  }
+
   @ExceptionHandler(UserNotFoundException.class)
   public ResponseEntity<String> handleUserNotFoundException(UserNotFoundException ex) {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -58,6 +89,26 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
   }
 
+  @ExceptionHandler(LoginThrottledException.class)
+  public ResponseEntity<String> handleLoginThrottledException(LoginThrottledException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(ex.getMessage());
+  }
+
+  @ExceptionHandler(AuthServiceBusyException.class)
+  public ResponseEntity<String> handleAuthServiceBusyException(AuthServiceBusyException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ex.getMessage());
+  }
+
+  // An import can run for minutes; the client should not retry on a timer
+  @ExceptionHandler(UserImportInProgressException.class)
+  public ResponseEntity<String> handleUserImportInProgressException(UserImportInProgressException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+  }
+
   // Validation Exceptions
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
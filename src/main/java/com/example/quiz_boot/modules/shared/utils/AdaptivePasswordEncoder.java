@@ -0,0 +1,119 @@
+package com.example.quiz_boot.modules.shared.utils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt encoder whose cost is calibrated on this host at startup.
+ * New hashes are written as "{bcrypt}$2a$<cost>$...", so the algorithm and
+ * cost are visible in the stored value. Legacy hashes without the prefix
+ * still verify. {@link #upgradeEncoding(String)} reports any hash that is
+ * unprefixed or weaker than this node's cost by more than the tolerance, so
+ * logins can rehash transparently. Stronger hashes are never rewritten: nodes
+ * behind one load balancer may calibrate to different costs, and rehashing
+ * on any difference would rewrite the password row on every login.
+ */
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+    static final String ID = "bcrypt";
+    private static final String PREFIX = "{" + ID + "}";
+    private static final int CALIBRATION_COST = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int cost;
+    private final int upgradeTolerance;
+    private final PasswordEncoder delegate;
+
+    public AdaptivePasswordEncoder(int cost) {
+        this(cost, 0);
+    }
+
+    /**
+     * @param upgradeTolerance how many cost steps below {@code cost} a stored
+     *                         hash may be before it is rehashed
+     */
+    public AdaptivePasswordEncoder(int cost, int upgradeTolerance) {
+        this.cost = cost;
+        this.upgradeTolerance = Math.max(0, upgradeTolerance);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ID,
+                Map.of(ID, new BCryptPasswordEncoder(cost)));
+        // Hashes stored before the prefix was introduced are plain BCrypt
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        this.delegate = delegating;
+    }
+
+    /**
+     * Picks the highest cost in [minCost, maxCost] whose hash time on this
+     * host stays within the target. Each cost step doubles the work, so one
+     * cheap measurement is enough to extrapolate.
+     */
+    public static AdaptivePasswordEncoder calibrated(Duration targetLatency, int minCost, int maxCost,
+            int upgradeTolerance) {
+        String salt = BCrypt.gensalt(CALIBRATION_COST);
+        BCrypt.hashpw("calibration", salt); // warm-up
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = costFor(targetLatency.toNanos(), best, minCost, maxCost);
+        logger.info("Password encoder calibrated: bcrypt cost {} (cost {} took {} us, target {} ms)",
+                cost, CALIBRATION_COST, best / 1_000, targetLatency.toMillis());
+        return new AdaptivePasswordEncoder(cost, upgradeTolerance);
+    }
+
+    static int costFor(long targetNanos, long calibrationNanos, int minCost, int maxCost) {
+        int cost = CALIBRATION_COST;
+        long projected = Math.max(1, calibrationNanos);
+        while (cost < maxCost && projected * 2 <= targetNanos) {
+            projected *= 2;
+            cost++;
+        }
+        return Math.max(minCost, Math.min(maxCost, cost));
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        return costOf(encodedPassword.substring(PREFIX.length())) < cost - upgradeTolerance;
+    }
+
+    // BCrypt layout: $2a$10$<salt+hash>
+    private static int costOf(String bcryptHash) {
+        String[] parts = bcryptHash.split("\\$");
+        if (parts.length < 3) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.quiz_boot.modules.shared.utils;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Helpers for conditional GET (If-None-Match / If-Modified-Since) on
+ * resources versioned by their updatedAt timestamp.
+ */
+public final class ConditionalRequests {
+
+  private ConditionalRequests() {
+  }
+
+  /**
+   * Weak ETag for a resource version, e.g. W/"quiz-12-1700000000000"
+   */
+  public static String etag(String resource, Object key, Instant lastModified) {
+    return "W/\"" + resource + "-" + key + "-" + lastModified.toEpochMilli() + "\"";
+  }
+
+  /**
+   * Checks the request validators and, when unchanged, turns the response
+   * into a 304. Also marks the response "no-cache" so clients revalidate
+   * instead of falling back to Spring Security's default no-store.
+   *
+   * @return true when the controller should return without a body
+   */
+  public static boolean checkNotModified(WebRequest request, String etag, Instant lastModified) {
+    if (request instanceof NativeWebRequest nativeRequest) {
+      HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+      if (response != null) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+      }
+    }
+    return request.checkNotModified(etag, lastModified.toEpochMilli());
+  }
+}
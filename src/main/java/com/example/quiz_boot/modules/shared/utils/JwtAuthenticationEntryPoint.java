@@ -1,20 +1,30 @@
 package com.example.quiz_boot.modules.shared.utils;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.quiz_boot.modules.user.service.PrincipalCache;
+import com.example.quiz_boot.modules.user.service.TokenRevocationService;
+import com.example.quiz_boot.modules.user.service.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,7 +41,16 @@ public class JwtAuthenticationEntryPoint extends OncePerRequestFilter {
     private JwtUtils jwtUtils;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Value("${app.jwt.self-contained-claims:true}")
+    private boolean selfContainedClaims;
+
+    @Value("${app.jwt.claims-max-age:15m}")
+    private Duration claimsMaxAge;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -39,24 +58,72 @@ public class JwtAuthenticationEntryPoint extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromJwtToken(jwt);
+            // One signature check per request; claims come back with the result
+            JwtVerification verification = jwt != null ? jwtUtils.verify(jwt) : null;
+            if (verification != null && verification.isValid()) {
+                Claims claims = verification.claims();
+                String username = claims.getSubject();
+
+                // Refresh tokens only work at /api/auth/refresh; revocation is a Bloom filter probe
+                if (jwtUtils.isRefreshToken(claims) || tokenRevocationService.isRevoked(claims.getId())) {
+                    jwtLogger.debug("Rejected refresh or revoked token for user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // Trust fresh self-contained claims; otherwise use the principal cache,
+                // whose misses load user and roles from the database
+                UserDetails userDetails = principalFromClaims(claims);
+                if (userDetails == null) {
+                    userDetails = principalCache.get(username);
+                }
+                if (!userDetails.isEnabled()) {
+                    jwtLogger.warn("Rejected token for inactive user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else if (verification != null) {
+                jwtLogger.debug("Rejected JWT: {}", verification.failure());
             }
-        } catch (io.jsonwebtoken.JwtException
-                | org.springframework.security.core.userdetails.UsernameNotFoundException e) {
+        } catch (org.springframework.security.core.userdetails.UsernameNotFoundException e) {
             jwtLogger.error("Cannot set user authentication: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal built from verified claims, or null when the token predates
+     * self-contained claims or is older than claims-max-age
+     */
+    private UserPrincipal principalFromClaims(Claims claims) {
+        if (!selfContainedClaims) {
+            return null;
+        }
+
+        Number userId = claims.get(JwtUtils.CLAIM_USER_ID, Number.class);
+        List<?> roles = claims.get(JwtUtils.CLAIM_ROLES, List.class);
+        Boolean active = claims.get(JwtUtils.CLAIM_ACTIVE, Boolean.class);
+        Date issuedAt = claims.getIssuedAt();
+        if (userId == null || roles == null || active == null || issuedAt == null) {
+            return null;
+        }
+
+        Instant issued = issuedAt.toInstant();
+        if (issued.plus(claimsMaxAge).isBefore(Instant.now())) {
+            return null;
+        }
+
+        List<String> roleNames = roles.stream().map(String::valueOf).toList();
+        return UserPrincipal.fromClaims(userId.longValue(), claims.getSubject(), roleNames, active);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -1,6 +1,11 @@
 package com.example.quiz_boot.modules.shared.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -9,11 +14,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.example.quiz_boot.modules.shared.utils.JwtVerification.Failure;
+
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+
+import jakarta.annotation.PostConstruct;
 
 /**
  * Utility class for handling JWT operations
@@ -22,17 +34,33 @@ import io.jsonwebtoken.security.Keys;
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    // Self-contained claims: enough to build the principal without a user lookup
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_ACTIVE = "act";
+
+    // Refresh tokens carry this type claim and are rejected as access tokens
+    public static final String CLAIM_TOKEN_TYPE = "token_type";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
     @Value("${app.jwt.secret:mySecretKey}")
     private String jwtSecret;
 
-    @Value("${app.jwt.expirationMs:86400000}") // 24 hours
+    @Value("${app.jwt.expirationMs:900000}") // 15 minutes
     private int jwtExpirationMs;
 
+    @Value("${app.jwt.refresh-expiration:14d}")
+    private Duration refreshExpiration;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     /**
      * Generate JWT token for a user
      */
     public String generateJwtToken(String username) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
@@ -41,44 +69,103 @@ public class JwtUtils {
     }
 
     /**
-     * Get username from JWT token
+     * Generate JWT token carrying the user id, roles and active flag, so the
+     * authentication filter can trust the token without a database lookup
      */
-    public String getUsernameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public String generateJwtToken(String username, Long userId, Collection<String> roles, boolean active) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, List.copyOf(roles))
+                .claim(CLAIM_ACTIVE, active)
+                .issuedAt(new Date())
+                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .signWith(getSigningKey())
+                .compact();
     }
 
     /**
-     * Validate JWT token
+     * Generate a long-lived refresh token; it only identifies the user and
+     * can be exchanged (once) for a new token pair
      */
-    public boolean validateJwtToken(String authToken) {
+    public String generateRefreshToken(String username, Long userId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + refreshExpiration.toMillis()))
+                .signWith(getSigningKey())
+                .compact();
+    }
+
+    /**
+     * True for tokens issued by {@link #generateRefreshToken(String, Long)}
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class));
+    }
+
+    /**
+     * Verify a token once and return its claims, or the reason it was rejected
+     */
+    public JwtVerification verify(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtVerification.rejected(Failure.EMPTY);
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
+            return JwtVerification.valid(jwtParser.parseSignedClaims(token).getPayload());
         } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
+            return JwtVerification.rejected(Failure.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
+            return JwtVerification.rejected(Failure.UNSUPPORTED);
+        } catch (SecurityException e) {
+            return JwtVerification.rejected(Failure.INVALID_SIGNATURE);
+        } catch (JwtException e) {
+            return JwtVerification.rejected(Failure.MALFORMED);
         } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            return JwtVerification.rejected(Failure.EMPTY);
+        }
+    }
+
+    /**
+     * Get all verified claims from JWT token
+     */
+    public Claims getClaimsFromJwtToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Get username from JWT token
+     */
+    public String getUsernameFromJwtToken(String token) {
+        return getClaimsFromJwtToken(token).getSubject();
+    }
+
+    /**
+     * Validate JWT token
+     */
+    public boolean validateJwtToken(String authToken) {
+        JwtVerification verification = verify(authToken);
+        if (!verification.isValid()) {
+            logger.debug("JWT token rejected: {}", verification.failure());
         }
-        return false;
+        return verification.isValid();
     }
 
     /**
-     * Get signing key from secret
+     * Build the signing key and parser once; both are immutable and thread-safe
      */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 }
@@ -0,0 +1,30 @@
+package com.example.quiz_boot.modules.shared.utils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Outcome of verifying a JWT: the verified claims, or the reason it was
+ * rejected. Rejections are ordinary results, not exceptions.
+ */
+public record JwtVerification(Claims claims, Failure failure) {
+
+    public enum Failure {
+        MALFORMED,
+        EXPIRED,
+        UNSUPPORTED,
+        INVALID_SIGNATURE,
+        EMPTY
+    }
+
+    public static JwtVerification valid(Claims claims) {
+        return new JwtVerification(claims, null);
+    }
+
+    public static JwtVerification rejected(Failure failure) {
+        return new JwtVerification(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+}
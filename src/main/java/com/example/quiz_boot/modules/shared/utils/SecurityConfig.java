@@ -1,17 +1,23 @@
 package com.example.quiz_boot.modules.shared.utils;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Security configuration for the Quiz Boot application
  * Configures authentication, authorization, JWT, and password encoding
@@ -23,9 +29,21 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    /**
+     * BCrypt with a cost calibrated to the target latency on this host, unless
+     * a fixed cost is configured. Stored hashes are only rehashed when weaker
+     * than this cost by more than the upgrade tolerance.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.cost:0}") int cost,
+            @Value("${app.security.password-hashing.target-latency:50ms}") Duration targetLatency,
+            @Value("${app.security.password-hashing.min-cost:10}") int minCost,
+            @Value("${app.security.password-hashing.max-cost:14}") int maxCost,
+            @Value("${app.security.password-hashing.upgrade-tolerance:1}") int upgradeTolerance) {
+        return cost > 0
+                ? new AdaptivePasswordEncoder(cost, upgradeTolerance)
+                : AdaptivePasswordEncoder.calibrated(targetLatency, minCost, maxCost, upgradeTolerance);
     }
 
     @Bean
@@ -36,6 +54,9 @@ public class SecurityConfig {
 
                 // Configure authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches finish a request that was already authorized (streamed responses)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Allow public access to authentication endpoints
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
@@ -50,9 +71,16 @@ public class SecurityConfig {
                         // Allow public access to health check and documentation
                         .requestMatchers("/actuator/health", "/api-docs/**", "/swagger-ui/**").permitAll()
 
+                        // User administration (listing, bulk import) is admin only
+                        .requestMatchers("/api/users/**").hasRole("ADMIN")
+
                         // Require authentication for all other endpoints
                         .anyRequest().authenticated())
 
+                // Missing, expired or revoked tokens answer 401 so clients know to refresh
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
                 // Configure session management (stateless for REST API)
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(
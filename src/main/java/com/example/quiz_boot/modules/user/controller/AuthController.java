@@ -1,19 +1,24 @@
 package com.example.quiz_boot.modules.user.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.quiz_boot.modules.user.dto.request.LoginRequestDto;
+import com.example.quiz_boot.modules.user.dto.request.RefreshTokenRequestDto;
 import com.example.quiz_boot.modules.user.dto.request.UserCreateDto;
 import com.example.quiz_boot.modules.user.dto.response.JwtResponseDto;
 import com.example.quiz_boot.modules.user.service.AuthService;
+import com.example.quiz_boot.modules.user.service.LoginThrottle;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 /**
@@ -27,6 +32,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginThrottle loginThrottle;
+
     /**
      * Register a new user
      */
@@ -37,11 +45,37 @@ public class AuthController {
     }
 
     /**
-     * Authenticate user and return JWT token
+     * Authenticate user and return JWT token.
+     * Throttled per username and client IP before any lookup or hash.
      */
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDto> authenticateUser(@Valid @RequestBody LoginRequestDto loginRequest) {
+    public ResponseEntity<JwtResponseDto> authenticateUser(@Valid @RequestBody LoginRequestDto loginRequest,
+            HttpServletRequest request) {
+        loginThrottle.acquire(loginRequest.getUsername(), request.getRemoteAddr());
         JwtResponseDto response = authService.loginUser(loginRequest);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Exchange a refresh token for a new access/refresh token pair
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponseDto> refreshToken(@RequestBody RefreshTokenRequestDto refreshRequest) {
+        JwtResponseDto response = authService.refreshToken(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Revoke the bearer access token and the given refresh token
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logoutUser(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequestDto logoutRequest) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logoutUser(accessToken, logoutRequest != null ? logoutRequest.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.quiz_boot.modules.user.controller;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.quiz_boot.modules.user.dto.response.UserImportReportDto;
+import com.example.quiz_boot.modules.user.dto.response.UserResponseDto;
+import com.example.quiz_boot.modules.user.service.RoleRegistry;
+import com.example.quiz_boot.modules.user.service.UserImportService;
+import com.example.quiz_boot.modules.user.service.UserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * REST controller for administrative user operations
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserAdminController {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    /**
+     * List users with their roles, paginated (max 100 per page)
+     */
+    @GetMapping
+    public ResponseEntity<Page<UserResponseDto>> getUsers(
+            @PageableDefault(page = 0, size = 20, sort = "id") Pageable pageable) {
+        if (pageable.getPageSize() > 100) {
+            pageable = PageRequest.of(pageable.getPageNumber(), 100, pageable.getSort());
+        }
+        return ResponseEntity.ok(userService.getUsers(pageable));
+    }
+
+    /**
+     * Reload the in-memory role registry after roles were changed in the database
+     */
+    @PostMapping("/roles/reload")
+    public ResponseEntity<List<String>> reloadRoles() {
+        roleRegistry.refresh();
+        return ResponseEntity.ok(roleRegistry.roleNames());
+    }
+
+    /**
+     * Bulk import users from a CSV (with header) or NDJSON request body.
+     * The body is streamed, not buffered; the response lists rejected rows.
+     * Answers 409 while another import is running.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<UserImportReportDto> importUsers(HttpServletRequest request) throws IOException {
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(userImportService.importUsers(reader, request.getContentType()));
+        }
+    }
+}
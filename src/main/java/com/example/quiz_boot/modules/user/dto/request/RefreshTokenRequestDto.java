@@ -0,0 +1,19 @@
+package com.example.quiz_boot.modules.user.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Value;
+
+/**
+ * Immutable DTO carrying a refresh token
+ */
+@Value
+public class RefreshTokenRequestDto {
+    String refreshToken;
+
+    @JsonCreator
+    public RefreshTokenRequestDto(@JsonProperty("refreshToken") String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -3,15 +3,18 @@ package com.example.quiz_boot.modules.user.dto.response;
 import lombok.Value;
 
 /**
- * Immutable DTO for JWT authentication responses
+ * Immutable DTO for JWT authentication responses.
+ * token is the short-lived access token; refreshToken obtains a new pair
+ * from /api/auth/refresh.
  */
 @Value
 public class JwtResponseDto {
     String token;
     String type;
+    String refreshToken;
     UserResponseDto user;
 
-    public static JwtResponseDto of(String token, UserResponseDto user) {
-        return new JwtResponseDto(token, "Bearer", user);
+    public static JwtResponseDto of(String token, String refreshToken, UserResponseDto user) {
+        return new JwtResponseDto(token, "Bearer", refreshToken, user);
     }
 }
@@ -0,0 +1,27 @@
+package com.example.quiz_boot.modules.user.dto.response;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Immutable DTO summarizing a bulk user import.
+ * Only the first rejected rows are listed; errorsTruncated tells whether more
+ * were rejected than reported.
+ */
+@Value
+public class UserImportReportDto {
+
+    int totalRows;
+    int imported;
+    int failed;
+    List<RowError> errors;
+    boolean errorsTruncated;
+
+    @Value
+    public static class RowError {
+        int line;
+        String username;
+        String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.quiz_boot.modules.user.exception;
+
+/**
+ * Exception thrown when password hashing capacity is exhausted and the
+ * request should be retried later
+ */
+public class AuthServiceBusyException extends RuntimeException {
+
+    public AuthServiceBusyException(String message) {
+        super(message);
+    }
+
+    public AuthServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.quiz_boot.modules.user.exception;
+
+/**
+ * A refresh token that is malformed, expired, revoked or not a refresh token
+ */
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
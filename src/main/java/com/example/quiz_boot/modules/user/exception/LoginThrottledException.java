@@ -0,0 +1,19 @@
+package com.example.quiz_boot.modules.user.exception;
+
+/**
+ * Exception thrown when login attempts for a username or client exceed the
+ * allowed rate
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.quiz_boot.modules.user.exception;
+
+/**
+ * Exception thrown when a user import is requested while another one is
+ * still running
+ */
+public class UserImportInProgressException extends RuntimeException {
+
+    public UserImportInProgressException(String message) {
+        super(message);
+    }
+}
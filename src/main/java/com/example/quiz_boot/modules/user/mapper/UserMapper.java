@@ -1,10 +1,13 @@
 package com.example.quiz_boot.modules.user.mapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
 import com.example.quiz_boot.modules.user.dto.request.UserCreateDto;
@@ -44,8 +47,13 @@ public class UserMapper {
      * Includes all non-sensitive user information and roles
      */
     public UserResponseDto toResponseDto(User user) {
-        Set<String> roles = userRoleService.getUserRoles(user.getId());
+        return toResponseDto(user, userRoleService.getUserRoles(user.getId()));
+    }
 
+    /**
+     * Convert User entity to UserResponseDto with roles the caller already has
+     */
+    public UserResponseDto toResponseDto(User user, Set<String> roles) {
         return new UserResponseDto(
                 user.getId(),
                 user.getUsername(),
@@ -90,13 +98,23 @@ public class UserMapper {
 
     /**
      * Convert list of User entities to list of UserResponseDto
+     * Roles for all users are loaded with one batched query, not one per user
      */
     public List<UserResponseDto> toResponseDtoList(List<User> users) {
+        Map<Long, Set<String>> rolesByUser = userRoleService.getUserRoles(
+                users.stream().map(User::getId).toList());
         return users.stream()
-                .map(this::toResponseDto)
+                .map(user -> toResponseDto(user, rolesByUser.getOrDefault(user.getId(), Set.of())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Convert a page of User entities to a page of UserResponseDto, with batched role loading
+     */
+    public Page<UserResponseDto> toResponseDtoPage(Page<User> users) {
+        return new PageImpl<>(toResponseDtoList(users.getContent()), users.getPageable(), users.getTotalElements());
+    }
+
     /**
      * Convert list of User entities to list of UserSummaryDto
      */
@@ -0,0 +1,36 @@
+package com.example.quiz_boot.modules.user.model;
+
+import java.time.Instant;
+
+import com.example.quiz_boot.modules.shared.Base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token id (jti) revoked before its expiry. Rows are only needed until the
+ * token would have expired anyway.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_created", columnList = "created_at"),
+        @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at")
+})
+public class RevokedToken extends BaseEntity {
+    @Column(nullable = false, unique = true, length = 64)
+    private String jti;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -1,9 +1,12 @@
 package com.example.quiz_boot.modules.user.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.quiz_boot.modules.user.model.User;
 
@@ -21,4 +24,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
+    /**
+     * Username/email pair of every user holding either value; at most two
+     * rows, so registration checks both constraints in one round trip
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u "
+            + "WHERE u.username = :username OR u.email = :email")
+    List<IdentityView> findIdentityConflicts(@Param("username") String username, @Param("email") String email);
+
+    /**
+     * Batch form of {@link #findIdentityConflicts(String, String)} for bulk import
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u "
+            + "WHERE u.username IN :usernames OR u.email IN :emails")
+    List<IdentityView> findIdentityConflicts(@Param("usernames") Collection<String> usernames,
+            @Param("emails") Collection<String> emails);
+
+    interface IdentityView {
+        String getUsername();
+
+        String getEmail();
+    }
+
 }
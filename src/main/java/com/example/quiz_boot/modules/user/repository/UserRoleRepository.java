@@ -1,5 +1,6 @@
 package com.example.quiz_boot.modules.user.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,9 +13,19 @@ import com.example.quiz_boot.modules.user.model.UserRole;
 @Repository
 public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
 
-    @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.role WHERE ur.user.id = :userId")
-    List<UserRole> findByUserIdWithRole(@Param("userId") Long userId);
+    /**
+     * (user id, role id) pairs for a batch of users; reads only user_roles,
+     * role names come from the in-memory RoleRegistry
+     */
+    @Query("SELECT ur.user.id AS userId, ur.role.id AS roleId FROM UserRole ur WHERE ur.user.id IN :userIds")
+    List<UserRoleIdView> findRoleIdsByUserIds(@Param("userIds") Collection<Long> userIds);
 
-    @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.role WHERE ur.user.username = :username")
-    List<UserRole> findByUsernameWithRole(@Param("username") String username);
+    @Query("SELECT ur.role.id FROM UserRole ur WHERE ur.user.username = :username")
+    List<Long> findRoleIdsByUsername(@Param("username") String username);
+
+    interface UserRoleIdView {
+        Long getUserId();
+
+        Long getRoleId();
+    }
 }
@@ -1,22 +1,25 @@
 package com.example.quiz_boot.modules.user.service;
 
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.example.quiz_boot.modules.shared.utils.JwtUtils;
+import com.example.quiz_boot.modules.shared.utils.JwtVerification;
 import com.example.quiz_boot.modules.user.dto.request.LoginRequestDto;
 import com.example.quiz_boot.modules.user.dto.request.UserCreateDto;
 import com.example.quiz_boot.modules.user.dto.response.JwtResponseDto;
 import com.example.quiz_boot.modules.user.dto.response.UserResponseDto;
+import com.example.quiz_boot.modules.user.exception.AuthServiceBusyException;
 import com.example.quiz_boot.modules.user.exception.DatabaseOperationException;
+import com.example.quiz_boot.modules.user.exception.InvalidTokenException;
 import com.example.quiz_boot.modules.user.exception.InvalidUserException;
 import com.example.quiz_boot.modules.user.mapper.UserMapper;
-import com.example.quiz_boot.modules.user.model.Role;
 import com.example.quiz_boot.modules.user.model.User;
 import com.example.quiz_boot.modules.user.model.UserRole;
 import com.example.quiz_boot.modules.user.repository.RoleRepository;
@@ -24,6 +27,8 @@ import com.example.quiz_boot.modules.user.repository.UserRepository;
 import com.example.quiz_boot.modules.user.repository.UserRoleRepository;
 import com.example.quiz_boot.modules.user.validation.UserValidation;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.transaction.Transactional;
 
 @Service
@@ -34,20 +39,28 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserRoleRepository userRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserMapper userMapper;
     private final JwtUtils jwtUtils;
+    private final UserRoleService userRoleService;
+    private final RoleRegistry roleRegistry;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthService(UserValidation userValidation, UserRepository userRepository,
             RoleRepository roleRepository, UserRoleRepository userRoleRepository,
-            PasswordEncoder passwordEncoder, UserMapper userMapper, JwtUtils jwtUtils) {
+            PasswordHasher passwordHasher, UserMapper userMapper, JwtUtils jwtUtils,
+            UserRoleService userRoleService, RoleRegistry roleRegistry,
+            TokenRevocationService tokenRevocationService) {
         this.userValidation = userValidation;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userRoleRepository = userRoleRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.userMapper = userMapper;
         this.jwtUtils = jwtUtils;
+        this.userRoleService = userRoleService;
+        this.roleRegistry = roleRegistry;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -75,40 +88,47 @@ public class AuthService {
             throw new InvalidUserException(userValidation.formatErrors(validationErrors));
         }
 
+        // Resolve the role from memory before spending a hash on the request
+        String roleName = userCreateDto.getRole() != null ? userCreateDto.getRole().toUpperCase() : "STUDENT";
+        Long roleId = roleRegistry.idOf(roleName)
+                .orElseThrow(() -> new InvalidUserException("Invalid role: " + roleName));
+
         try {
             // Create normalized and encoded user data (preserving immutability)
             UserCreateDto normalizedUser = new UserCreateDto(
                     userCreateDto.getUsername().trim().toLowerCase(),
                     userCreateDto.getEmail().trim().toLowerCase(),
-                    passwordEncoder.encode(userCreateDto.getPassword()),
+                    passwordHasher.encode(userCreateDto.getPassword()),
                     userCreateDto.getFirstName().trim(),
                     userCreateDto.getLastName().trim(),
-                    userCreateDto.getRole() != null ? userCreateDto.getRole().toUpperCase() : "STUDENT");
+                    roleName);
 
-            // Convert to entity and save
+            // Convert to entity and save; flush so a concurrent duplicate hits the unique constraint here
             User newUser = userMapper.toEntity(normalizedUser);
-            User savedUser = userRepository.save(newUser);
-
-            // Assign role to user
-            String roleName = normalizedUser.getRole();
-            Role role = roleRepository.findByName(roleName)
-                    .orElseThrow(() -> new InvalidUserException("Invalid role: " + roleName));
+            User savedUser = userRepository.saveAndFlush(newUser);
 
+            // Assign role to user (reference only, no roles lookup)
             UserRole userRole = new UserRole();
             userRole.setUser(savedUser);
-            userRole.setRole(role);
+            userRole.setRole(roleRepository.getReferenceById(roleId));
             userRoleRepository.save(userRole);
 
-            // Generate JWT token
-            String jwt = jwtUtils.generateJwtToken(savedUser.getUsername());
-
             // Audit: Log successful registration
             logger.info("AUDIT: User registration successful - ID: {}, username: {}, email: {}, role: {}",
                     savedUser.getId(), savedUser.getUsername(), savedUser.getEmail(), roleName);
 
-            UserResponseDto userResponse = userMapper.toResponseDto(savedUser);
-            return JwtResponseDto.of(jwt, userResponse);
+            // Generate access and refresh tokens
+            return issueTokens(savedUser, Set.of(roleName));
 
+        } catch (AuthServiceBusyException e) {
+            logger.warn("AUDIT: Registration deferred - password hashing saturated for username '{}'",
+                    userCreateDto.getUsername());
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration for the same username or email
+            logger.warn("AUDIT: Registration failed - username or email already registered: {}",
+                    userCreateDto.getUsername());
+            throw new InvalidUserException("Username or email is already registered");
         } catch (org.springframework.dao.DataAccessException e) {
             // Audit: Log database operation failure
             logger.error("AUDIT: Database operation failed during user registration - username: {}, error: {}",
@@ -151,19 +171,19 @@ public class AuthService {
                     });
 
             // Step 3: Verify password
-            if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            if (!passwordHasher.matches(loginRequest.getPassword(), user.getPassword())) {
                 logger.warn("AUDIT: Login failed - incorrect password for username '{}'", normalizedUsername);
                 throw new InvalidUserException("Invalid username or password");
             }
 
-            // Step 4: Generate JWT token
-            String jwt = jwtUtils.generateJwtToken(user.getUsername());
+            // Step 4: Upgrade the stored hash if it uses an older algorithm or cost
+            rehashIfNeeded(user, loginRequest.getPassword());
 
             // Step 5: Audit successful login
             logger.info("AUDIT: User login successful - ID: {}, username: {}", user.getId(), user.getUsername());
 
-            UserResponseDto userResponse = userMapper.toResponseDto(user);
-            return JwtResponseDto.of(jwt, userResponse);
+            // Step 6: Generate access and refresh tokens
+            return issueTokens(user, userRoleService.getUserRoles(user.getId()));
 
         } catch (DataAccessException e) {
             logger.error("AUDIT: Database operation failed during user login - username: {}, error: {}",
@@ -171,6 +191,10 @@ public class AuthService {
             throw new DatabaseOperationException("Database operation failed during login", e);
         } catch (InvalidUserException e) {
             throw e; // Already logged
+        } catch (AuthServiceBusyException e) {
+            logger.warn("AUDIT: Login deferred - password hashing saturated for username '{}'",
+                    loginRequest.getUsername());
+            throw e;
         } catch (Exception e) {
             logger.error("AUDIT: User login failed - username: {}, error: {}",
                     loginRequest.getUsername(), e.getMessage());
@@ -178,6 +202,100 @@ public class AuthService {
         }
     }
 
+    /**
+     * Exchanges a refresh token for a new access/refresh pair. The presented
+     * refresh token is revoked (rotation), so each one works once; roles and
+     * active flag are reloaded so the new access token is current.
+     *
+     * @param refreshToken refresh token from a previous login or refresh
+     * @return JWT response with new tokens and user data
+     */
+    public JwtResponseDto refreshToken(String refreshToken) {
+        JwtVerification verification = jwtUtils.verify(refreshToken);
+        if (!verification.isValid() || !jwtUtils.isRefreshToken(verification.claims())) {
+            logger.warn("AUDIT: Token refresh failed - invalid refresh token ({})",
+                    verification.isValid() ? "not a refresh token" : verification.failure());
+            throw new InvalidTokenException("Invalid or expired refresh token");
+        }
+
+        Claims claims = verification.claims();
+        String username = claims.getSubject();
+        logger.info("AUDIT: Token refresh attempt - username: {}", username);
+
+        try {
+            // Rotation: losing this race means the token was already used
+            if (!tokenRevocationService.revoke(claims.getId(), username, claims.getExpiration().toInstant())) {
+                logger.warn("AUDIT: Token refresh failed - refresh token already used or revoked for username '{}'",
+                        username);
+                throw new InvalidTokenException("Refresh token has been revoked");
+            }
+
+            User user = userRepository.findByUsername(username)
+                    .filter(User::isActive)
+                    .orElseThrow(() -> {
+                        logger.warn("AUDIT: Token refresh failed - user missing or inactive: '{}'", username);
+                        return new InvalidTokenException("Invalid or expired refresh token");
+                    });
+
+            logger.info("AUDIT: Token refresh successful - ID: {}, username: {}", user.getId(), username);
+            return issueTokens(user, userRoleService.getUserRoles(user.getId()));
+
+        } catch (DataAccessException e) {
+            logger.error("AUDIT: Database operation failed during token refresh - username: {}, error: {}",
+                    username, e.getMessage());
+            throw new DatabaseOperationException("Database operation failed during token refresh", e);
+        }
+    }
+
+    /**
+     * Revokes the given access and refresh tokens; invalid or expired tokens
+     * are ignored
+     */
+    public void logoutUser(String accessToken, String refreshToken) {
+        try {
+            revokeIfValid(accessToken);
+            revokeIfValid(refreshToken);
+        } catch (DataAccessException e) {
+            logger.error("AUDIT: Database operation failed during logout - error: {}", e.getMessage());
+            throw new DatabaseOperationException("Database operation failed during logout", e);
+        }
+    }
+
+    private void revokeIfValid(String token) {
+        if (token == null) {
+            return;
+        }
+        JwtVerification verification = jwtUtils.verify(token);
+        if (verification.isValid()) {
+            Claims claims = verification.claims();
+            tokenRevocationService.revoke(claims.getId(), claims.getSubject(), claims.getExpiration().toInstant());
+        }
+    }
+
+    private JwtResponseDto issueTokens(User user, Set<String> roles) {
+        String jwt = jwtUtils.generateJwtToken(user.getUsername(), user.getId(), roles, user.isActive());
+        String refreshToken = jwtUtils.generateRefreshToken(user.getUsername(), user.getId());
+        UserResponseDto userResponse = userMapper.toResponseDto(user, roles);
+        return JwtResponseDto.of(jwt, refreshToken, userResponse);
+    }
+
+    /**
+     * Rehashes the password with the current encoder settings after a
+     * successful login. Best effort: a failure here never fails the login.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHasher.encode(rawPassword));
+            userRepository.save(user);
+            logger.info("AUDIT: Password hash upgraded for user ID: {}", user.getId());
+        } catch (AuthServiceBusyException | DataAccessException e) {
+            logger.warn("Password rehash skipped for user ID {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     /**
      * Authenticates a user and returns their data (legacy method for backward
      * compatibility).
@@ -0,0 +1,143 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.user.exception.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory token-bucket limiter for login attempts, keyed by username and,
+ * when enabled, by client IP. Every attempt takes one token from each
+ * bucket before any database lookup or password hash; an empty bucket
+ * rejects the attempt with 429.
+ * Per-IP limiting is off by default (ip.capacity 0): a class of hundreds of
+ * students logging in at the start of an exam often shares one school NAT
+ * address, and the login burst handling is sized for exactly that. Enable
+ * it only with a capacity above the largest class behind one address. Buckets are updated under one of a fixed set of striped locks
+ * and live in a bounded cache that drops them once idle long enough to have
+ * refilled, so memory stays flat under credential-stuffing traffic.
+ * Metrics: auth.login.throttled (tag key=username|ip) and
+ * auth.login.throttle.buckets.
+ */
+@Component
+public class LoginThrottle {
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final int STRIPES = 64;
+
+    private final Limiter byUsername;
+    private final Limiter byIp;
+    private final Counter usernameThrottled;
+    private final Counter ipThrottled;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+            @Value("${app.security.login-throttle.username.capacity:5}") int usernameCapacity,
+            @Value("${app.security.login-throttle.username.refill-period:1m}") Duration usernameRefill,
+            @Value("${app.security.login-throttle.ip.capacity:0}") int ipCapacity,
+            @Value("${app.security.login-throttle.ip.refill-period:1m}") Duration ipRefill,
+            @Value("${app.security.login-throttle.max-keys:100000}") long maxKeys) {
+        this.byUsername = new Limiter(usernameCapacity, usernameRefill, maxKeys);
+        this.byIp = ipCapacity > 0 ? new Limiter(ipCapacity, ipRefill, maxKeys) : null;
+        this.usernameThrottled = Counter.builder("auth.login.throttled").tag("key", "username")
+                .register(meterRegistry);
+        this.ipThrottled = Counter.builder("auth.login.throttled").tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.buckets", () -> byUsername.size() + (byIp != null ? byIp.size() : 0))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one login attempt for this username and client, or throws
+     * LoginThrottledException when either is over its limit
+     */
+    public void acquire(String username, String clientIp) {
+        if (byIp != null && clientIp != null) {
+            long waitNanos = byIp.tryAcquire(clientIp);
+            if (waitNanos > 0) {
+                ipThrottled.increment();
+                logger.warn("AUDIT: Login throttled for client {}", clientIp);
+                throw new LoginThrottledException("Too many login attempts, please retry later", seconds(waitNanos));
+            }
+        }
+
+        if (username != null && !username.isBlank()) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            long waitNanos = byUsername.tryAcquire(key);
+            if (waitNanos > 0) {
+                usernameThrottled.increment();
+                logger.warn("AUDIT: Login throttled for username '{}'", key);
+                throw new LoginThrottledException("Too many login attempts, please retry later", seconds(waitNanos));
+            }
+        }
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * Token buckets for one key space. Refill is continuous: capacity tokens
+     * per refill period.
+     */
+    static final class Limiter {
+        private final double capacity;
+        private final double tokensPerNano;
+        private final Cache<String, Bucket> buckets;
+        private final Object[] locks = new Object[STRIPES];
+
+        Limiter(int capacity, Duration refillPeriod, long maxKeys) {
+            this.capacity = capacity;
+            this.tokensPerNano = capacity / (double) refillPeriod.toNanos();
+            // An idle bucket is full again after one refill period, so it can be dropped
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(refillPeriod)
+                    .maximumSize(maxKeys)
+                    .build();
+            for (int i = 0; i < STRIPES; i++) {
+                locks[i] = new Object();
+            }
+        }
+
+        /**
+         * @return 0 when a token was taken, otherwise nanoseconds until one is available
+         */
+        long tryAcquire(String key) {
+            synchronized (locks[(key.hashCode() & 0x7fffffff) % STRIPES]) {
+                long now = System.nanoTime();
+                Bucket bucket = buckets.get(key, k -> new Bucket(capacity, now));
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = now;
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    return 0;
+                }
+                return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+            }
+        }
+
+        long size() {
+            return buckets.estimatedSize();
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived cache of authenticated principals keyed by username, used by
+ * the JWT filter so authenticated requests do not reload the user and roles.
+ * Entries expire after a short TTL, which bounds how long a deactivation or
+ * role change goes unnoticed (the application itself has no such path; they
+ * are made in the database). Hit, miss and eviction metrics are published
+ * under "security.principals".
+ * Cached principals carry no password hash.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(UserDetailsService userDetailsService, MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.ttl:30s}") Duration ttl,
+            @Value("${app.security.principal-cache.max-size:10000}") long maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.principals");
+    }
+
+    /**
+     * Returns the principal for a username, loading it on a miss. Unknown
+     * users are not cached and surface as UsernameNotFoundException.
+     */
+    public UserPrincipal get(String username) throws UsernameNotFoundException {
+        return cache.get(username, this::load);
+    }
+
+    private UserPrincipal load(String username) {
+        UserDetails details = userDetailsService.loadUserByUsername(username);
+        if (!(details instanceof UserPrincipal principal)) {
+            throw new IllegalStateException("Unexpected principal type: " + details.getClass().getName());
+        }
+        return new UserPrincipal(principal.getId(), principal.getUsername(), principal.getEmail(), null,
+                principal.isEnabled(), principal.getAuthorities());
+    }
+}
@@ -16,11 +16,15 @@ public class RoleDataInitializer implements CommandLineRunner {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private RoleRegistry roleRegistry;
+
     @Override
     public void run(String... args) throws Exception {
         initializeRole("STUDENT", "Student role with basic quiz-taking permissions");
         initializeRole("TEACHER", "Teacher role with quiz management permissions");
         initializeRole("ADMIN", "Administrator role with full system access");
+        roleRegistry.refresh();
     }
 
     private void initializeRole(String roleName, String description) {
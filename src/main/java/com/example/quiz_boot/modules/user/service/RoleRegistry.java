@@ -0,0 +1,159 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.quiz_boot.modules.user.model.Role;
+import com.example.quiz_boot.modules.user.repository.RoleRepository;
+
+/**
+ * Immutable in-memory view of the roles table. Roles are a small fixed set
+ * seeded by {@link RoleDataInitializer}, so they are read once at startup
+ * and again only through {@link #refresh()} when roles are changed
+ * administratively. Each role owns one bit of a long, so a user's roles fit
+ * in a mask and role checks are bit operations. A role id that is still
+ * missing after a reload (a dangling user_roles row) is remembered until the
+ * next refresh, so it costs one reload, not one per lookup.
+ */
+@Component
+public class RoleRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(RoleRegistry.class);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Id of the role with this name, if it exists
+     */
+    public Optional<Long> idOf(String roleName) {
+        if (roleName == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot().idsByName.get(roleName));
+    }
+
+    /**
+     * Mask with the bit of every given role id set; an unknown id triggers one
+     * reload, after which it is ignored until the next {@link #refresh()}
+     */
+    public long maskOfIds(Collection<Long> roleIds) {
+        Snapshot current = snapshot();
+        long mask = 0;
+        for (Long roleId : roleIds) {
+            Long bit = current.bitsById.get(roleId);
+            if (bit == null && !current.missingIds.contains(roleId)) {
+                // A role added since startup without a reload
+                current = reloadFor(roleId);
+                bit = current.bitsById.get(roleId);
+            }
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * True when the mask includes the named role
+     */
+    public boolean hasRole(long mask, String roleName) {
+        Long bit = snapshot().bitsByName.get(roleName);
+        return bit != null && (mask & bit) != 0;
+    }
+
+    /**
+     * Role names in the mask, in role id order
+     */
+    public Set<String> namesOf(long mask) {
+        Snapshot current = snapshot();
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < current.names.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                names.add(current.names.get(i));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * All role names, in role id order
+     */
+    public List<String> roleNames() {
+        return snapshot().names;
+    }
+
+    /**
+     * Reloads roles from the database. Call after roles are created, renamed
+     * or removed.
+     */
+    public synchronized void refresh() {
+        List<Role> roles = roleRepository.findAll().stream()
+                .sorted(Comparator.comparing(Role::getId))
+                .toList();
+        snapshot = new Snapshot(roles);
+        logger.info("Role registry loaded: {}", snapshot.names);
+    }
+
+    private synchronized Snapshot reloadFor(Long roleId) {
+        if (!snapshot.bitsById.containsKey(roleId) && !snapshot.missingIds.contains(roleId)) {
+            refresh();
+            if (!snapshot.bitsById.containsKey(roleId)) {
+                logger.warn("Role id {} is referenced but not in the roles table", roleId);
+                snapshot.missingIds.add(roleId);
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final List<String> names;
+        private final Map<String, Long> idsByName = new HashMap<>();
+        private final Map<String, Long> bitsByName = new HashMap<>();
+        private final Map<Long, Long> bitsById = new HashMap<>();
+        // Ids not found by the reload that built this snapshot
+        private final Set<Long> missingIds = ConcurrentHashMap.newKeySet();
+
+        private Snapshot(List<Role> roles) {
+            if (roles.size() > Long.SIZE) {
+                throw new IllegalStateException("Role registry supports at most " + Long.SIZE + " roles");
+            }
+            this.names = roles.stream().map(Role::getName).toList();
+            for (int i = 0; i < roles.size(); i++) {
+                Role role = roles.get(i);
+                long bit = 1L << i;
+                idsByName.put(role.getName(), role.getId());
+                bitsByName.put(role.getName(), bit);
+                bitsById.put(role.getId(), bit);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.quiz_boot.modules.shared.utils.BloomFilter;
+import com.example.quiz_boot.modules.user.model.RevokedToken;
+import com.example.quiz_boot.modules.user.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Revoked token ids (jti), persisted in revoked_tokens and mirrored in an
+ * in-memory Bloom filter. A filter miss proves the token is not revoked, so
+ * the per-request check touches the database only on a filter hit: actual
+ * revocations plus a small false-positive rate.
+ * Revocations from other instances are picked up every sync-interval; the
+ * filter is rebuilt (dropping expired ids) every rebuild-interval.
+ * Metrics: auth.token.revocation.lookups tagged result=revoked|false-positive.
+ */
+@Service
+public class TokenRevocationService {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // Rows are stamped with each instance's clock; re-reading a little history covers skew
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Counter revokedLookups;
+    private final Counter falsePositiveLookups;
+
+    private volatile BloomFilter filter;
+    private volatile Instant syncedUntil;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry,
+            @Value("${app.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedLookups = Counter.builder("auth.token.revocation.lookups").tag("result", "revoked")
+                .register(meterRegistry);
+        this.falsePositiveLookups = Counter.builder("auth.token.revocation.lookups").tag("result", "false-positive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * True when the token id has been revoked. Tokens without an id predate
+     * revocation support and are never considered revoked.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) {
+            return false;
+        }
+        // Filter hit, or filter not loaded yet
+        boolean revoked = revokedTokenRepository.existsByJti(jti);
+        if (current != null) {
+            (revoked ? revokedLookups : falsePositiveLookups).increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Revokes a token id until its expiry
+     *
+     * @return true if this call revoked it, false if it was already revoked or expired
+     */
+    public boolean revoke(String jti, String username, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return false;
+        }
+        if (revokedTokenRepository.existsByJti(jti)) {
+            return false;
+        }
+
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setJti(jti);
+        revokedToken.setUsername(username);
+        revokedToken.setExpiresAt(expiresAt);
+        try {
+            revokedTokenRepository.save(revokedToken);
+        } catch (DataIntegrityViolationException e) {
+            // Revoked concurrently by another request
+            return false;
+        }
+
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(jti);
+        }
+        logger.info("AUDIT: Token revoked - username: {}, jti: {}", username, jti);
+        return true;
+    }
+
+    /**
+     * Adds revocations recorded since the last sync, including other instances'
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:30s}",
+            initialDelayString = "${app.jwt.revocation.sync-interval:30s}")
+    public void sync() {
+        BloomFilter current = filter;
+        Instant since = syncedUntil;
+        if (current == null || since == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (String jti : revokedTokenRepository.findJtisRevokedSince(since.minus(SYNC_OVERLAP), now)) {
+            current.put(jti);
+        }
+        syncedUntil = now;
+    }
+
+    /**
+     * Rebuilds the filter from unexpired revocations and purges expired rows.
+     * Runs at startup, then every rebuild-interval.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.jwt.revocation.rebuild-interval:6h}")
+    public synchronized void rebuild() {
+        Instant now = Instant.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        List<String> active = revokedTokenRepository.findActiveJtis(now);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, active.size() * 2L), falsePositiveRate);
+        active.forEach(rebuilt::put);
+
+        filter = rebuilt;
+        syncedUntil = now;
+        logger.info("Token revocation filter rebuilt: {} active revocations, {} expired purged",
+                active.size(), purged);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Inserts imported users and their role links with JDBC batches.
+ * JPA cannot batch inserts for IDENTITY ids, so this goes below it: one
+ * batch for users, one query for the generated ids, one batch for user_roles.
+ * Each call runs in its own transaction so a failed chunk rolls back alone.
+ */
+@Component
+public class UserBatchWriter {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(username, email, password, first_name, last_name, is_active, created_at, updated_at) "
+            + "VALUES (:username, :email, :password, :firstName, :lastName, TRUE, :now, :now)";
+
+    private static final String SELECT_IDS = "SELECT id, username FROM users WHERE username IN (:usernames)";
+
+    private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_id, created_at, updated_at) "
+            + "VALUES (:userId, :roleId, :now, :now)";
+
+    /**
+     * A validated user with its password already hashed
+     */
+    public record NewUser(String username, String email, String passwordHash, String firstName, String lastName,
+            Long roleId) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserBatchWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void insert(List<NewUser> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+
+        MapSqlParameterSource[] userParams = new MapSqlParameterSource[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            NewUser user = users.get(i);
+            userParams[i] = new MapSqlParameterSource()
+                    .addValue("username", user.username())
+                    .addValue("email", user.email())
+                    .addValue("password", user.passwordHash())
+                    .addValue("firstName", user.firstName())
+                    .addValue("lastName", user.lastName())
+                    .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, userParams);
+
+        Map<String, Long> ids = new HashMap<>(users.size() * 2);
+        jdbcTemplate.query(SELECT_IDS,
+                new MapSqlParameterSource("usernames", users.stream().map(NewUser::username).toList()),
+                rs -> {
+                    ids.put(rs.getString("username"), rs.getLong("id"));
+                });
+
+        MapSqlParameterSource[] roleParams = new MapSqlParameterSource[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            NewUser user = users.get(i);
+            roleParams[i] = new MapSqlParameterSource()
+                    .addValue("userId", ids.get(user.username()))
+                    .addValue("roleId", user.roleId())
+                    .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE, roleParams);
+    }
+}
@@ -30,7 +30,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
-        Set<String> roles = userRoleService.getUserRoles(username);
+        Set<String> roles = userRoleService.getUserRoles(user.getId());
         return UserPrincipal.create(user, roles);
     }
 }
@@ -0,0 +1,173 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.quiz_boot.modules.user.dto.request.UserCreateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads bulk import rows one line at a time, so memory does not depend on
+ * the size of the upload. CSV needs a header naming the columns (username,
+ * email, password, firstName, lastName, role); NDJSON has one JSON object
+ * per line with the same fields. Blank lines are skipped.
+ */
+class UserImportReader implements Closeable {
+
+    enum Format {
+        CSV, NDJSON;
+
+        static Format fromContentType(String contentType) {
+            if (contentType != null) {
+                String type = contentType.toLowerCase(Locale.ROOT);
+                if (type.startsWith("text/csv")) {
+                    return CSV;
+                }
+                if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                    return NDJSON;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType
+                    + " (expected text/csv or application/x-ndjson)");
+        }
+    }
+
+    /**
+     * One input row; user is null when the line could not be parsed
+     */
+    record Row(int line, UserCreateDto user, String error) {
+    }
+
+    private static final String[] FIELDS = { "username", "email", "password", "firstName", "lastName", "role" };
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private int lineNumber;
+    private Map<String, Integer> columns;
+
+    UserImportReader(Reader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the next row, or null at end of input
+     */
+    Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.NDJSON) {
+                return parseJson(line);
+            }
+            if (columns == null) {
+                columns = parseHeader(line);
+                continue;
+            }
+            return parseCsv(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return new Row(lineNumber, null, "Expected a JSON object");
+            }
+            String[] values = new String[FIELDS.length];
+            for (int i = 0; i < FIELDS.length; i++) {
+                JsonNode value = node.get(FIELDS[i]);
+                values[i] = value == null || value.isNull() ? null : value.asText();
+            }
+            return new Row(lineNumber, toUser(values), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            indexes.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String field : FIELDS) {
+            if (!"role".equals(field) && !indexes.containsKey(field.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV header is missing column: " + field);
+            }
+        }
+        return indexes;
+    }
+
+    private Row parseCsv(String line) {
+        List<String> cells = splitCsv(line);
+        if (cells == null) {
+            return new Row(lineNumber, null, "Unterminated quoted field");
+        }
+        String[] values = new String[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            Integer index = columns.get(FIELDS[i].toLowerCase(Locale.ROOT));
+            values[i] = index != null && index < cells.size() ? cells.get(index) : null;
+        }
+        return new Row(lineNumber, toUser(values), null);
+    }
+
+    private static UserCreateDto toUser(String[] values) {
+        return new UserCreateDto(values[0], values[1], values[2], values[3], values[4],
+                values[5] == null || values[5].isBlank() ? null : values[5].trim());
+    }
+
+    /**
+     * RFC 4180 cells within one line ("" escapes a quote); null if a quote is left open
+     */
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.quiz_boot.modules.user.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.quiz_boot.modules.user.dto.request.UserCreateDto;
+import com.example.quiz_boot.modules.user.dto.response.UserImportReportDto;
+import com.example.quiz_boot.modules.user.exception.UserImportInProgressException;
+import com.example.quiz_boot.modules.user.exception.DatabaseOperationException;
+import com.example.quiz_boot.modules.user.exception.InvalidUserException;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+import com.example.quiz_boot.modules.user.validation.UserValidation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk user import from a CSV or NDJSON stream.
+ * Rows are processed in fixed-size chunks: format validation per row, one
+ * uniqueness query per chunk, passwords hashed in parallel on a small
+ * dedicated pool (separate from the login pool), then one JDBC batch insert.
+ * Memory is bounded by the chunk size and the capped error list, not by the
+ * upload. Only one import runs at a time.
+ */
+@Service
+public class UserImportService {
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DEFAULT_ROLE = "STUDENT";
+
+    private final UserValidation userValidation;
+    private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final UserBatchWriter userBatchWriter;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    private final ThreadPoolExecutor hashExecutor;
+    private final Semaphore running = new Semaphore(1);
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    public UserImportService(UserValidation userValidation, UserRepository userRepository,
+            RoleRegistry roleRegistry, PasswordEncoder passwordEncoder, UserBatchWriter userBatchWriter,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.users.import.chunk-size:500}") int chunkSize,
+            @Value("${app.users.import.hash-threads:0}") int hashThreads,
+            @Value("${app.users.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userValidation = userValidation;
+        this.userRepository = userRepository;
+        this.roleRegistry = roleRegistry;
+        this.passwordEncoder = passwordEncoder;
+        this.userBatchWriter = userBatchWriter;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        // Queue holds a full chunk; CallerRunsPolicy is only a safety net
+        this.hashExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.importedRows = Counter.builder("users.import.rows").tag("result", "imported").register(meterRegistry);
+        this.failedRows = Counter.builder("users.import.rows").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * Imports users from the stream in the given content type
+     *
+     * @param input       CSV (with header) or NDJSON rows
+     * @param contentType text/csv or application/x-ndjson
+     * @return per-row report of rejected rows and totals
+     */
+    public UserImportReportDto importUsers(Reader input, String contentType) {
+        UserImportReader.Format format;
+        try {
+            format = UserImportReader.Format.fromContentType(contentType);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserException(e.getMessage());
+        }
+
+        if (!running.tryAcquire()) {
+            logger.warn("AUDIT: User import rejected - another import is running");
+            throw new UserImportInProgressException("Another user import is already running");
+        }
+
+        logger.info("AUDIT: User import started - format: {}", format);
+        Report report = new Report(maxReportedErrors);
+        try (UserImportReader reader = new UserImportReader(input, format, objectMapper)) {
+            List<UserImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            processChunk(chunk, report);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserException(e.getMessage());
+        } catch (IOException e) {
+            logger.error("AUDIT: User import aborted after {} rows - read error: {}", report.total, e.getMessage());
+            throw new InvalidUserException("Could not read import stream: " + e.getMessage());
+        } catch (DataAccessException e) {
+            logger.error("AUDIT: User import aborted after {} rows - database error: {}", report.total, e.getMessage());
+            throw new DatabaseOperationException("Database operation failed during user import", e);
+        } finally {
+            running.release();
+        }
+
+        logger.info("AUDIT: User import finished - rows: {}, imported: {}, failed: {}",
+                report.total, report.imported, report.failed);
+        return report.toDto();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    private void processChunk(List<UserImportReader.Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Step 1: Parse, normalize and validate each row; drop duplicates within the chunk
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserImportReader.Row row : chunk) {
+            report.total++;
+            if (row.user() == null) {
+                report.fail(row.line(), null, row.error());
+                continue;
+            }
+            UserCreateDto user = row.user();
+            List<String> errors = userValidation.validateUserFormat(user);
+            if (userValidation.hasErrors(errors)) {
+                report.fail(row.line(), user.getUsername(), userValidation.formatErrors(errors));
+                continue;
+            }
+
+            String username = user.getUsername().trim().toLowerCase();
+            String email = user.getEmail().trim().toLowerCase();
+            String roleName = user.getRole() != null ? user.getRole().toUpperCase() : DEFAULT_ROLE;
+            Long roleId = roleRegistry.idOf(roleName).orElse(null);
+            if (roleId == null) {
+                report.fail(row.line(), username, "Invalid role: " + roleName);
+            } else if (!usernames.add(username)) {
+                report.fail(row.line(), username, "Duplicate username in import");
+            } else if (!emails.add(email)) {
+                usernames.remove(username);
+                report.fail(row.line(), username, "Duplicate email in import");
+            } else {
+                candidates.add(new Candidate(row.line(), username, email, user, roleId));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Step 2: One uniqueness query for the whole chunk
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserRepository.IdentityView existing : userRepository.findIdentityConflicts(usernames, emails)) {
+            takenUsernames.add(existing.getUsername());
+            takenEmails.add(existing.getEmail());
+        }
+
+        // Step 3: Hash accepted passwords in parallel
+        List<Candidate> accepted = new ArrayList<>(candidates.size());
+        List<CompletableFuture<String>> hashes = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (takenUsernames.contains(candidate.username)) {
+                report.fail(candidate.line, candidate.username, "Username is already taken");
+            } else if (takenEmails.contains(candidate.email)) {
+                report.fail(candidate.line, candidate.username, "Email is already registered");
+            } else {
+                String rawPassword = candidate.user.getPassword();
+                accepted.add(candidate);
+                hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), hashExecutor));
+            }
+        }
+
+        List<UserBatchWriter.NewUser> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            Candidate candidate = accepted.get(i);
+            users.add(new UserBatchWriter.NewUser(candidate.username, candidate.email, hashes.get(i).join(),
+                    candidate.user.getFirstName().trim(), candidate.user.getLastName().trim(), candidate.roleId));
+        }
+
+        // Step 4: Batch insert; a concurrent registration can still win a race, then retry row by row
+        try {
+            userBatchWriter.insert(users);
+            report.imported += users.size();
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("User import chunk hit a unique constraint, retrying {} rows individually", users.size());
+            for (int i = 0; i < users.size(); i++) {
+                try {
+                    userBatchWriter.insert(List.of(users.get(i)));
+                    report.imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    report.fail(accepted.get(i).line, users.get(i).username(), "Username or email is already registered");
+                }
+            }
+        }
+    }
+
+    private record Candidate(int line, String username, String email, UserCreateDto user, Long roleId) {
+    }
+
+    private final class Report {
+        private final int maxErrors;
+        private final List<UserImportReportDto.RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(int line, String username, String message) {
+            failed++;
+            failedRows.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportReportDto.RowError(line, username, message));
+            }
+        }
+
+        private UserImportReportDto toDto() {
+            importedRows.increment(imported);
+            return new UserImportReportDto(total, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
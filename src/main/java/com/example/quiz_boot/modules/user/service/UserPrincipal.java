@@ -34,19 +34,28 @@ public class UserPrincipal implements UserDetails {
     }
 
     public static UserPrincipal create(User user, Set<String> roles) {
-        Collection<GrantedAuthority> authorities = (roles == null || roles.isEmpty())
-                ? Collections.singletonList(new SimpleGrantedAuthority("ROLE_STUDENT"))
-                : roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toList());
-
         return new UserPrincipal(
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
                 user.isActive(),
-                authorities);
+                toAuthorities(roles));
+    }
+
+    /**
+     * Build a principal from verified token claims (no email or password)
+     */
+    public static UserPrincipal fromClaims(Long id, String username, Collection<String> roles, boolean isActive) {
+        return new UserPrincipal(id, username, null, null, isActive, toAuthorities(roles));
+    }
+
+    private static Collection<GrantedAuthority> toAuthorities(Collection<String> roles) {
+        return (roles == null || roles.isEmpty())
+                ? Collections.singletonList(new SimpleGrantedAuthority("ROLE_STUDENT"))
+                : roles.stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .collect(Collectors.toList());
     }
 
     public Long getId() {
@@ -1,48 +1,92 @@
 package com.example.quiz_boot.modules.user.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.example.quiz_boot.modules.user.model.UserRole;
 import com.example.quiz_boot.modules.user.repository.UserRoleRepository;
 
 /**
- * Service for user role operations
+ * Service for user role operations.
+ * Only role ids are read from user_roles; names and checks go through the
+ * in-memory {@link RoleRegistry}, so no query joins the roles table.
  */
 @Service
 public class UserRoleService {
 
+    // Keeps IN lists well under database parameter limits
+    private static final int ROLE_BATCH_SIZE = 1000;
+
     @Autowired
     private UserRoleRepository userRoleRepository;
 
+    @Autowired
+    private RoleRegistry roleRegistry;
+
     /**
      * Get roles for a user by user ID
      */
     public Set<String> getUserRoles(Long userId) {
-        List<UserRole> userRoles = userRoleRepository.findByUserIdWithRole(userId);
-        return userRoles.stream()
-                .map(userRole -> userRole.getRole().getName())
-                .collect(Collectors.toSet());
+        return roleRegistry.namesOf(getRoleMask(userId));
+    }
+
+    /**
+     * Get roles for many users with one IN query per batch of ids.
+     * Every requested id is present in the result; users without roles map
+     * to an empty set.
+     */
+    public Map<Long, Set<String>> getUserRoles(Collection<Long> userIds) {
+        Map<Long, List<Long>> roleIdsByUser = new HashMap<>();
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        for (int from = 0; from < ids.size(); from += ROLE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + ROLE_BATCH_SIZE));
+            for (UserRoleRepository.UserRoleIdView row : userRoleRepository.findRoleIdsByUserIds(batch)) {
+                roleIdsByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row.getRoleId());
+            }
+        }
+
+        Map<Long, Set<String>> rolesByUser = new HashMap<>();
+        for (Long id : ids) {
+            List<Long> roleIds = roleIdsByUser.get(id);
+            rolesByUser.put(id, roleIds == null ? Set.of() : roleRegistry.namesOf(roleRegistry.maskOfIds(roleIds)));
+        }
+        return rolesByUser;
     }
 
     /**
      * Get roles for a user by username
      */
     public Set<String> getUserRoles(String username) {
-        List<UserRole> userRoles = userRoleRepository.findByUsernameWithRole(username);
-        return userRoles.stream()
-                .map(userRole -> userRole.getRole().getName())
-                .collect(Collectors.toSet());
+        return roleRegistry.namesOf(getRoleMask(username));
+    }
+
+    /**
+     * Role bitmask for a user by user ID (see {@link RoleRegistry})
+     */
+    public long getRoleMask(Long userId) {
+        return roleRegistry.maskOfIds(userRoleRepository.findRoleIdsByUserIds(List.of(userId)).stream()
+                .map(UserRoleRepository.UserRoleIdView::getRoleId)
+                .toList());
+    }
+
+    /**
+     * Role bitmask for a user by username (see {@link RoleRegistry})
+     */
+    public long getRoleMask(String username) {
+        return roleRegistry.maskOfIds(userRoleRepository.findRoleIdsByUsername(username));
     }
 
     /**
      * Check if user has a specific role
      */
     public boolean hasRole(String username, String roleName) {
-        return getUserRoles(username).contains(roleName);
+        return roleRegistry.hasRole(getRoleMask(username), roleName);
     }
 }
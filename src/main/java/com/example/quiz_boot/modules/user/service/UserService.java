@@ -0,0 +1,42 @@
+package com.example.quiz_boot.modules.user.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.example.quiz_boot.modules.user.dto.response.UserResponseDto;
+import com.example.quiz_boot.modules.user.exception.DatabaseOperationException;
+import com.example.quiz_boot.modules.user.mapper.UserMapper;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+
+/**
+ * Read operations on users for administration
+ */
+@Service
+public class UserService {
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    public UserService(UserRepository userRepository, UserMapper userMapper) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+    }
+
+    /**
+     * Page of users with their roles; two queries per page regardless of size
+     */
+    public Page<UserResponseDto> getUsers(Pageable pageable) {
+        logger.debug("Retrieving users with pagination: {}", pageable);
+        try {
+            return userMapper.toResponseDtoPage(userRepository.findAll(pageable));
+        } catch (DataAccessException e) {
+            logger.error("AUDIT: User listing failed due to database error: {}", e.getMessage());
+            throw new DatabaseOperationException("Failed to retrieve users", e);
+        }
+    }
+}
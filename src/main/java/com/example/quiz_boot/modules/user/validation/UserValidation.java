@@ -54,11 +54,18 @@ public class UserValidation {
             return errors;
         }
 
-        // Validate username
-        errors.addAll(validateUsername(dto.getUsername(), true));
+        // Validate username and email format
+        List<String> usernameErrors = validateUsername(dto.getUsername(), false);
+        List<String> emailErrors = validateEmail(dto.getEmail(), false);
+        errors.addAll(usernameErrors);
+        errors.addAll(emailErrors);
 
-        // Validate email
-        errors.addAll(validateEmail(dto.getEmail(), true));
+        // Uniqueness of both in a single query; the unique constraints still catch races
+        if (usernameErrors.isEmpty() || emailErrors.isEmpty()) {
+            errors.addAll(validateIdentityAvailable(
+                    usernameErrors.isEmpty() ? dto.getUsername().trim().toLowerCase() : null,
+                    emailErrors.isEmpty() ? dto.getEmail().trim().toLowerCase() : null));
+        }
 
         // Validate password
         errors.addAll(validatePassword(dto.getPassword()));
@@ -70,6 +77,30 @@ public class UserValidation {
         return errors;
     }
 
+    /**
+     * Validates UserCreateDto field formats only, without uniqueness queries.
+     * Used by bulk import, which checks uniqueness for a whole batch at once.
+     *
+     * @param dto The user creation data
+     * @return List of validation errors (empty if valid)
+     */
+    public List<String> validateUserFormat(UserCreateDto dto) {
+        List<String> errors = new ArrayList<>();
+
+        if (dto == null) {
+            errors.add("User data cannot be null");
+            return errors;
+        }
+
+        errors.addAll(validateUsername(dto.getUsername(), false));
+        errors.addAll(validateEmail(dto.getEmail(), false));
+        errors.addAll(validatePassword(dto.getPassword()));
+        errors.addAll(validateFirstName(dto.getFirstName()));
+        errors.addAll(validateLastName(dto.getLastName()));
+
+        return errors;
+    }
+
     /**
      * Validates UserUpdateDto for user profile updates
      * 
@@ -197,6 +228,29 @@ public class UserValidation {
         return errors;
     }
 
+    /**
+     * Checks that neither the normalized username nor email is taken, in one
+     * query. A null value is skipped.
+     */
+    public List<String> validateIdentityAvailable(String username, String email) {
+        List<String> errors = new ArrayList<>();
+        boolean usernameTaken = false;
+        boolean emailTaken = false;
+
+        for (UserRepository.IdentityView existing : userRepository.findIdentityConflicts(username, email)) {
+            usernameTaken |= username != null && username.equals(existing.getUsername());
+            emailTaken |= email != null && email.equals(existing.getEmail());
+        }
+
+        if (usernameTaken) {
+            errors.add("Username is already taken");
+        }
+        if (emailTaken) {
+            errors.add("Email is already registered");
+        }
+        return errors;
+    }
+
     /**
      * Validates login credentials
      */
@@ -0,0 +1,145 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.quiz_boot.modules.attempt.model.OpenAttempt;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository;
+import com.example.quiz_boot.modules.attempt.repository.QuizAttemptRepository;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.Outcome;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.quiz.model.Category;
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.quiz.repository.CategoryRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+import com.example.quiz_boot.modules.user.model.User;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+
+// Not transactional: the writer commits in its own transaction
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(AttemptBatchWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttemptBatchWriterTest {
+
+  @Autowired
+  private AttemptBatchWriter attemptBatchWriter;
+
+  @Autowired
+  private QuizAttemptRepository quizAttemptRepository;
+
+  @Autowired
+  private OpenAttemptRepository openAttemptRepository;
+
+  @Autowired
+  private QuizRepository quizRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM quiz_attempt_rejects");
+    openAttemptRepository.deleteAll();
+    quizAttemptRepository.deleteAll();
+    quizRepository.deleteAll();
+    categoryRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void numbersAttemptsAtStoreTimeAndDeadLettersThoseOverTheLimit() {
+    Long userId = saveUser();
+    Long quizId = saveQuiz(userId);
+
+    // Two instances each handed out number 1; the stored numbers are 1 and 2
+    PendingAttempt first = new PendingAttempt("s-1", userId, quizId, 1, 2, 4, 50.0, true, "[]", Instant.now());
+    PendingAttempt second = new PendingAttempt("s-2", userId, quizId, 1, 4, 4, 100.0, true, "[]", Instant.now());
+
+    assertEquals(new Outcome(2, 0), attemptBatchWriter.insert(List.of(first, second)));
+    // A replay of the same batch stores nothing new
+    assertEquals(new Outcome(0, 0), attemptBatchWriter.insert(List.of(first, second)));
+    assertEquals(2, quizAttemptRepository.findHighestAttemptNumber(userId, quizId));
+
+    PendingAttempt third = new PendingAttempt("s-3", userId, quizId, 3, 1, 4, 25.0, false, "[]", Instant.now());
+    PendingAttempt fourth = new PendingAttempt("s-4", userId, quizId, 3, 3, 4, 75.0, true, "[]", Instant.now());
+    assertEquals(new Outcome(1, 1), attemptBatchWriter.insert(List.of(third, fourth)));
+    assertEquals(new Outcome(0, 0), attemptBatchWriter.insert(List.of(fourth)));
+
+    assertEquals(3, quizAttemptRepository.count());
+    assertEquals(3, quizAttemptRepository.findHighestAttemptNumber(userId, quizId));
+    assertEquals("ATTEMPT_LIMIT", jdbcTemplate.queryForObject(
+        "SELECT reason FROM quiz_attempt_rejects WHERE submission_id = 's-4'", String.class));
+  }
+
+  @Test
+  void finalizationStoresOnlyAttemptsThatAreStillOpen() {
+    Long userId = saveUser();
+    Long quizId = saveQuiz(userId);
+    Instant deadline = Instant.now().minusSeconds(60);
+
+    OpenAttempt open = new OpenAttempt();
+    open.setSubmissionId("s-open");
+    open.setUser(userRepository.getReferenceById(userId));
+    open.setQuiz(quizRepository.getReferenceById(quizId));
+    open.setStartedAt(deadline.minusSeconds(3600));
+    open.setDeadline(deadline);
+    openAttemptRepository.save(open);
+
+    // "s-claimed" lost its open row to a submission after its timer fired
+    PendingAttempt expired = new PendingAttempt("s-open", userId, quizId, 1, 0, 4, 0.0, false, "[]", deadline);
+    PendingAttempt claimed = new PendingAttempt("s-claimed", userId, quizId, 2, 0, 4, 0.0, false, "[]", deadline);
+
+    assertEquals(1, attemptBatchWriter.finalizeExpired(List.of(expired, claimed), List.of()));
+    assertEquals(1, quizAttemptRepository.count());
+    assertEquals(0, openAttemptRepository.count());
+    // A second instance finalizing the same timer finds nothing left to close
+    assertEquals(0, attemptBatchWriter.finalizeExpired(List.of(expired), List.of()));
+    assertEquals(1, quizAttemptRepository.count());
+  }
+
+  private Long saveUser() {
+    User user = new User();
+    user.setUsername("ann");
+    user.setEmail("ann@example.com");
+    user.setPassword("hash");
+    user.setFirstName("Ann");
+    user.setLastName("Lee");
+    user.setActive(true);
+    return userRepository.save(user).getId();
+  }
+
+  private Long saveQuiz(Long creatorId) {
+    Category category = new Category();
+    category.setName("Science");
+    category.setDescription("Science quizzes");
+    Quiz quiz = new Quiz();
+    quiz.setTitle("Physics");
+    quiz.setDescription("Physics basics");
+    quiz.setCategory(categoryRepository.save(category));
+    quiz.setCreator(userRepository.getReferenceById(creatorId));
+    quiz.setDuration(1);
+    quiz.setPassingScore(50);
+    quiz.setMaxAttempts(3);
+    return quizRepository.save(quiz).getId();
+  }
+}
@@ -0,0 +1,175 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository.OpenAttemptView;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Claim;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Deadline;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.service.QuizContent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AttemptDeadlinesTest {
+
+  private static final Duration TICK = Duration.ofMillis(10);
+
+  private final OpenAttemptRepository openAttemptRepository = mock(OpenAttemptRepository.class);
+  private final AnswerKeyCache answerKeyCache = mock(AnswerKeyCache.class);
+  private final AttemptWriteBehind attemptWriteBehind = mock(AttemptWriteBehind.class);
+  private final AttemptBatchWriter batchWriter = mock(AttemptBatchWriter.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private AttemptDeadlines deadlines;
+
+  @BeforeEach
+  void setUp() {
+    // No grace period: an attempt closes at its deadline
+    deadlines = new AttemptDeadlines(openAttemptRepository, answerKeyCache, new AttemptGrader(), attemptWriteBehind,
+        batchWriter, meterRegistry, TICK, Duration.ZERO, TICK, 100);
+  }
+
+  @Test
+  void claimDeletesTheStoredRowOnceAndCancelsTheTimer() {
+    Deadline open = deadline("s-1", Instant.now().plusSeconds(60));
+    deadlines.schedule(open);
+    when(openAttemptRepository.deleteBySubmissionId("s-1")).thenReturn(1, 0);
+
+    assertEquals(Claim.CLAIMED, deadlines.claim(open, Instant.now()));
+    assertEquals(0, deadlines.size());
+    // Already claimed, here or on another instance
+    assertEquals(Claim.GONE, deadlines.claim(open, Instant.now()));
+  }
+
+  @Test
+  void claimPastTheDeadlineLeavesTheRowForFinalization() {
+    Deadline open = deadline("s-1", Instant.now().minusSeconds(1));
+
+    assertEquals(Claim.CLOSED, deadlines.claim(open, Instant.now()));
+    verify(openAttemptRepository, never()).deleteBySubmissionId(any());
+  }
+
+  @Test
+  void claimOfAnOldSubmissionKeepsTheNewerTimer() {
+    Instant deadline = Instant.now().plusSeconds(60);
+    deadlines.schedule(deadline("s-2", deadline));
+    when(openAttemptRepository.deleteBySubmissionId("s-1")).thenReturn(0);
+
+    assertEquals(Claim.GONE, deadlines.claim(deadline("s-1", deadline), Instant.now()));
+    assertEquals(1, deadlines.size());
+  }
+
+  @Test
+  void loadReplacesOrCancelsWhatThisInstanceHadScheduled() {
+    deadlines.schedule(deadline("s-1", Instant.now().plusSeconds(60)));
+    OpenAttemptView restarted = view("s-2", Instant.now().plusSeconds(120));
+    when(openAttemptRepository.findOpen(1L, 2L)).thenReturn(Optional.of(restarted), Optional.empty());
+
+    // Submitted and restarted on another instance
+    assertEquals("s-2", deadlines.load(1L, 2L).submissionId());
+    assertEquals("s-2", deadlines.find(1L, 2L).submissionId());
+    assertEquals(1, deadlines.size());
+
+    // Closed on another instance: the stale timer goes too
+    assertNull(deadlines.load(1L, 2L));
+    assertEquals(0, deadlines.size());
+  }
+
+  @Test
+  void expiredAttemptIsFinalizedUnlessAlreadyClaimed() throws InterruptedException {
+    when(answerKeyCache.get(2L)).thenReturn(answerKey());
+    when(attemptWriteBehind.reserve(1L, 2L, 3)).thenReturn(1);
+    // The row was claimed by a submission between the tick and the locking read
+    when(batchWriter.finalizeExpired(anyList(), anyList())).thenReturn(0);
+    Deadline open = deadline("s-1", Instant.now().minusSeconds(1));
+    deadlines.schedule(open);
+
+    advance();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PendingAttempt>> attempts = ArgumentCaptor.forClass(List.class);
+    verify(batchWriter).finalizeExpired(attempts.capture(), eq(List.of()));
+    PendingAttempt finalized = attempts.getValue().get(0);
+    assertEquals("s-1", finalized.submissionId());
+    assertEquals(1, finalized.attemptNumber());
+    assertEquals(open.deadline(), finalized.submittedAt());
+    // The reserved number is handed back and nothing counts as expired
+    verify(attemptWriteBehind).release(1L, 2L);
+    assertEquals(0.0, meterRegistry.get("quiz.attempts.deadlines.expired").counter().count());
+    assertEquals(0, deadlines.size());
+  }
+
+  @Test
+  void attemptClaimedBeforeItsTickIsNotFinalized() throws InterruptedException {
+    Deadline open = deadline("s-1", Instant.now().plusMillis(500));
+    deadlines.schedule(open);
+    when(openAttemptRepository.deleteBySubmissionId("s-1")).thenReturn(1);
+    assertEquals(Claim.CLAIMED, deadlines.claim(open, Instant.now()));
+
+    Thread.sleep(550);
+    advance();
+
+    verify(attemptWriteBehind, never()).reserve(anyLong(), anyLong(), anyInt());
+    verify(batchWriter, never()).finalizeExpired(anyList(), anyList());
+  }
+
+  @Test
+  void failedFinalizationIsRescheduled() throws InterruptedException {
+    when(answerKeyCache.get(2L)).thenReturn(answerKey());
+    when(attemptWriteBehind.reserve(1L, 2L, 3)).thenReturn(1);
+    when(batchWriter.finalizeExpired(anyList(), anyList())).thenThrow(new IllegalStateException("database down"));
+    deadlines.schedule(deadline("s-1", Instant.now().minusSeconds(1)));
+
+    advance();
+
+    verify(attemptWriteBehind).release(1L, 2L);
+    assertEquals(1, deadlines.size());
+  }
+
+  // Fires whatever is due: timers never fire in the tick they were scheduled in
+  private void advance() throws InterruptedException {
+    Thread.sleep(2 * TICK.toMillis());
+    deadlines.finalizeExpired();
+  }
+
+  private static Deadline deadline(String submissionId, Instant deadline) {
+    return new Deadline(submissionId, 1L, 2L, deadline.minusSeconds(3600), deadline);
+  }
+
+  private static OpenAttemptView view(String submissionId, Instant deadline) {
+    OpenAttemptView view = mock(OpenAttemptView.class);
+    when(view.getSubmissionId()).thenReturn(submissionId);
+    when(view.getStartedAt()).thenReturn(deadline.minusSeconds(3600));
+    when(view.getDeadline()).thenReturn(deadline);
+    return view;
+  }
+
+  private static AnswerKey answerKey() {
+    QuizDetailDto quiz = new QuizDetailDto();
+    quiz.setId(2L);
+    quiz.setDuration(1);
+    quiz.setPassingScore(50);
+    quiz.setMaxAttempts(3);
+    return AnswerKey.compile(new QuizContent(quiz, List.of(), 1L));
+  }
+}
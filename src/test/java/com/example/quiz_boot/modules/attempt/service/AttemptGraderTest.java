@@ -0,0 +1,100 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.attempt.dto.request.AnswerSubmissionDto;
+import com.example.quiz_boot.modules.attempt.exception.InvalidAttemptException;
+import com.example.quiz_boot.modules.attempt.service.AttemptGrader.GradedAttempt;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionOptionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.service.QuizContent;
+
+class AttemptGraderTest {
+
+  private final AttemptGrader grader = new AttemptGrader();
+
+  @Test
+  void gradesByOptionTextAndIdAndSkipsQuestionsWithoutKey() {
+    QuizContent quiz = quiz(
+        question(1L, "MULTIPLE_CHOICE", 3, option(11L, "Paris", true), option(12L, "Rome", false)),
+        question(2L, "TRUE_FALSE", 2, option(21L, "True", false), option(22L, "False", true)),
+        question(3L, "MULTIPLE_CHOICE", 5, option(31L, "A", true), option(32L, "B", true)),
+        question(4L, "FILL_IN_BLANK", 4));
+
+    GradedAttempt graded = grader.grade(AnswerKey.compile(quiz), List.of(
+        answer(1L, "Paris", List.of("paris ")),
+        answer(2L, "false", List.of()),
+        answer(3L, null, List.of("31")),
+        answer(4L, "anything", List.of())));
+
+    assertEquals(5, graded.score());
+    assertEquals(10, graded.maxScore());
+    assertEquals(1, graded.ungraded());
+    assertEquals(50.0, graded.percentage());
+    assertTrue(graded.results().get(0).getCorrect());
+    assertTrue(graded.results().get(1).getCorrect());
+    assertFalse(graded.results().get(2).getCorrect());
+    assertNull(graded.results().get(3).getCorrect());
+  }
+
+  @Test
+  void unansweredQuestionsScoreZero() {
+    QuizContent quiz = quiz(question(1L, "TRUE_FALSE", 2, option(11L, "True", true), option(12L, "False", false)));
+
+    GradedAttempt graded = grader.grade(AnswerKey.compile(quiz), List.of());
+
+    assertEquals(0, graded.score());
+    assertEquals(2, graded.maxScore());
+    assertFalse(graded.results().get(0).getCorrect());
+  }
+
+  @Test
+  void rejectsForeignAndDuplicateQuestions() {
+    QuizContent quiz = quiz(question(1L, "TRUE_FALSE", 2, option(11L, "True", true), option(12L, "False", false)));
+
+    assertThrows(InvalidAttemptException.class,
+        () -> grader.grade(AnswerKey.compile(quiz), List.of(answer(99L, "true", List.of()))));
+    assertThrows(InvalidAttemptException.class,
+        () -> grader.grade(AnswerKey.compile(quiz), List.of(answer(1L, "true", List.of()), answer(1L, "false", List.of()))));
+  }
+
+  private static QuizContent quiz(QuestionResponseDto... questions) {
+    QuizDetailDto quiz = new QuizDetailDto();
+    quiz.setId(7L);
+    return new QuizContent(quiz, List.of(questions), 1L);
+  }
+
+  private static QuestionResponseDto question(Long id, String type, int points, QuestionOptionResponseDto... options) {
+    QuestionResponseDto question = new QuestionResponseDto();
+    question.setId(id);
+    question.setQuestionType(type);
+    question.setPoints(points);
+    question.setOptions(List.of(options));
+    return question;
+  }
+
+  private static QuestionOptionResponseDto option(Long id, String text, boolean correct) {
+    QuestionOptionResponseDto option = new QuestionOptionResponseDto();
+    option.setId(id);
+    option.setOptionText(text);
+    option.setCorrect(correct);
+    return option;
+  }
+
+  private static AnswerSubmissionDto answer(Long questionId, String text, List<String> selected) {
+    AnswerSubmissionDto answer = new AnswerSubmissionDto();
+    answer.setQuestionId(questionId);
+    answer.setAnswer(text);
+    answer.setSelectedOptions(selected);
+    return answer;
+  }
+}
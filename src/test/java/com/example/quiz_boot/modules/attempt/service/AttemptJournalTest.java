@@ -0,0 +1,89 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptJournal.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AttemptJournalTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void unstoredAttemptsAreReplayedAfterRestart() throws IOException {
+    AttemptJournal journal = journal(DataSize.ofMegabytes(1));
+    assertTrue(journal.open().isEmpty());
+    Entry first = journal.append(attempt("a", 1));
+    journal.append(attempt("b", 2));
+    journal.stored(first);
+    journal.close();
+
+    List<Entry> replayed = journal(DataSize.ofMegabytes(1)).open();
+
+    assertEquals(2, replayed.size());
+    assertEquals("a", replayed.get(0).attempt().submissionId());
+    assertEquals(2, replayed.get(1).attempt().attemptNumber());
+  }
+
+  @Test
+  void sealedSegmentsAreDeletedOnceStored() throws IOException {
+    AttemptJournal journal = journal(DataSize.ofBytes(1));
+    journal.open();
+    Entry first = journal.append(attempt("a", 1));
+    Entry second = journal.append(attempt("b", 2));
+
+    journal.stored(first);
+    journal.stored(second);
+    journal.close();
+
+    assertEquals(0, files());
+  }
+
+  @Test
+  void tornLineIsSkippedOnReplay() throws IOException {
+    AttemptJournal journal = journal(DataSize.ofMegabytes(1));
+    journal.open();
+    journal.append(attempt("a", 1));
+    journal.close();
+    try (Stream<Path> listing = Files.list(directory)) {
+      Path segment = listing.findFirst().orElseThrow();
+      Files.writeString(segment, "{\"submissionId\":\"b\",\"us", StandardOpenOption.APPEND);
+    }
+
+    List<Entry> replayed = journal(DataSize.ofMegabytes(1)).open();
+
+    assertEquals(1, replayed.size());
+    assertEquals("a", replayed.get(0).attempt().submissionId());
+  }
+
+  private AttemptJournal journal(DataSize segmentSize) {
+    return new AttemptJournal(objectMapper, directory, segmentSize);
+  }
+
+  private long files() throws IOException {
+    try (Stream<Path> listing = Files.list(directory)) {
+      return listing.count();
+    }
+  }
+
+  private static PendingAttempt attempt(String submissionId, int attemptNumber) {
+    return new PendingAttempt(submissionId, 1L, 2L, attemptNumber, 3, 4, 75.0, true, "[]", Instant.now());
+  }
+}
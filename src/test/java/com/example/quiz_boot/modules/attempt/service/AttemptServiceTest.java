@@ -0,0 +1,112 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.quiz_boot.modules.attempt.dto.request.AttemptSubmissionDto;
+import com.example.quiz_boot.modules.attempt.dto.response.AttemptResultDto;
+import com.example.quiz_boot.modules.attempt.exception.AttemptServiceBusyException;
+import com.example.quiz_boot.modules.attempt.exception.InvalidAttemptException;
+import com.example.quiz_boot.modules.attempt.model.OpenAttempt;
+import com.example.quiz_boot.modules.attempt.repository.OpenAttemptRepository;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Claim;
+import com.example.quiz_boot.modules.attempt.service.AttemptDeadlines.Deadline;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+import com.example.quiz_boot.modules.quiz.service.QuizContent;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AttemptServiceTest {
+
+  private final AnswerKeyCache answerKeyCache = mock(AnswerKeyCache.class);
+  private final AttemptWriteBehind attemptWriteBehind = mock(AttemptWriteBehind.class);
+  private final AttemptDeadlines attemptDeadlines = mock(AttemptDeadlines.class);
+  private final OpenAttemptRepository openAttemptRepository = mock(OpenAttemptRepository.class);
+  private final AttemptService attemptService = new AttemptService(answerKeyCache, new AttemptGrader(),
+      attemptWriteBehind, attemptDeadlines, openAttemptRepository, mock(UserRepository.class),
+      mock(QuizRepository.class), new ObjectMapper(), new SimpleMeterRegistry());
+
+  @Test
+  void claimedAttemptIsReopenedWhenTheSubmissionCannotBeQueued() {
+    Deadline open = timedQuizStarted("s-1");
+    when(attemptDeadlines.claim(eq(open), any())).thenReturn(Claim.CLAIMED);
+    when(attemptWriteBehind.submit(eq(1L), eq(2L), eq(3), any()))
+        .thenThrow(new AttemptServiceBusyException("Too many submissions in progress, please retry shortly"));
+
+    assertThrows(AttemptServiceBusyException.class, () -> attemptService.submit(1L, submission()));
+
+    // The stored row and the timer are back, so a retry or the deadline still closes it
+    ArgumentCaptor<OpenAttempt> reopened = ArgumentCaptor.forClass(OpenAttempt.class);
+    verify(openAttemptRepository).save(reopened.capture());
+    assertEquals("s-1", reopened.getValue().getSubmissionId());
+    assertEquals(open.deadline(), reopened.getValue().getDeadline());
+    verify(attemptDeadlines).schedule(open);
+  }
+
+  @Test
+  void staleTimerIsReloadedAndTheStoredAttemptClaimed() {
+    Deadline stale = timedQuizStarted("s-1");
+    Deadline restarted = new Deadline("s-2", 1L, 2L, Instant.now(), Instant.now().plusSeconds(3600));
+    when(attemptDeadlines.claim(eq(stale), any())).thenReturn(Claim.GONE);
+    when(attemptDeadlines.load(1L, 2L)).thenReturn(restarted);
+    when(attemptDeadlines.claim(eq(restarted), any())).thenReturn(Claim.CLAIMED);
+    when(attemptWriteBehind.submit(eq(1L), eq(2L), eq(3), any()))
+        .thenAnswer(invocation -> invocation.<IntFunction<PendingAttempt>>getArgument(3).apply(2));
+
+    AttemptResultDto result = attemptService.submit(1L, submission());
+
+    assertEquals("s-2", result.getSubmissionId());
+    assertEquals(2, result.getAttemptNumber());
+    verify(openAttemptRepository, never()).save(any());
+  }
+
+  @Test
+  void submissionAfterTheGracePeriodIsRejectedWithoutQueueing() {
+    Deadline open = timedQuizStarted("s-1");
+    when(attemptDeadlines.claim(eq(open), any())).thenReturn(Claim.CLOSED);
+
+    InvalidAttemptException e = assertThrows(InvalidAttemptException.class,
+        () -> attemptService.submit(1L, submission()));
+
+    assertEquals("Time limit for this attempt has expired", e.getMessage());
+    verify(attemptWriteBehind, never()).submit(any(), any(), anyInt(), any());
+  }
+
+  private Deadline timedQuizStarted(String submissionId) {
+    QuizDetailDto quiz = new QuizDetailDto();
+    quiz.setId(2L);
+    quiz.setDuration(1);
+    quiz.setPassingScore(50);
+    quiz.setMaxAttempts(3);
+    when(answerKeyCache.get(2L)).thenReturn(AnswerKey.compile(new QuizContent(quiz, List.of(), 1L)));
+
+    Deadline open = new Deadline(submissionId, 1L, 2L, Instant.now(), Instant.now().plusSeconds(3600));
+    when(attemptDeadlines.find(1L, 2L)).thenReturn(open);
+    return open;
+  }
+
+  private static AttemptSubmissionDto submission() {
+    AttemptSubmissionDto submission = new AttemptSubmissionDto();
+    submission.setQuizId(2L);
+    submission.setAnswers(List.of());
+    return submission;
+  }
+}
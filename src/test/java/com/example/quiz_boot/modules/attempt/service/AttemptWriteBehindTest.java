@@ -0,0 +1,128 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import com.example.quiz_boot.modules.attempt.exception.AttemptLimitExceededException;
+import com.example.quiz_boot.modules.attempt.model.RejectedAttempt;
+import com.example.quiz_boot.modules.attempt.repository.QuizAttemptRepository;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.Outcome;
+import com.example.quiz_boot.modules.attempt.service.AttemptBatchWriter.PendingAttempt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AttemptWriteBehindTest {
+
+  @TempDir
+  Path directory;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AttemptBatchWriter batchWriter;
+  private QuizAttemptRepository quizAttemptRepository;
+  private AttemptWriteBehind writeBehind;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    batchWriter = mock(AttemptBatchWriter.class);
+    quizAttemptRepository = mock(QuizAttemptRepository.class);
+    AttemptJournal journal = new AttemptJournal(new ObjectMapper().findAndRegisterModules(), directory,
+        DataSize.ofMegabytes(1));
+    writeBehind = new AttemptWriteBehind(journal, batchWriter, quizAttemptRepository, meterRegistry, 100, 10,
+        Duration.ofMillis(10), Duration.ofSeconds(5));
+    writeBehind.start();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    writeBehind.stop();
+  }
+
+  @Test
+  void storedHighestIsReadOutsideTheSlotMapAndTheLimitHolds() {
+    AtomicBoolean first = new AtomicBoolean(true);
+    when(quizAttemptRepository.findHighestAttemptNumber(1L, 2L)).thenAnswer(invocation -> {
+      // Touching the same key would fail with "Recursive update" inside ConcurrentHashMap.compute
+      if (first.getAndSet(false)) {
+        writeBehind.release(1L, 2L);
+      }
+      return 1;
+    });
+
+    assertEquals(2, writeBehind.reserve(1L, 2L, 3));
+    assertEquals(3, writeBehind.reserve(1L, 2L, 3));
+    assertThrows(AttemptLimitExceededException.class, () -> writeBehind.reserve(1L, 2L, 3));
+    verify(quizAttemptRepository, times(1)).findHighestAttemptNumber(1L, 2L);
+
+    // Once nothing is pending the database is read again
+    writeBehind.release(1L, 2L);
+    writeBehind.release(1L, 2L);
+    assertEquals(1, writeBehind.attemptsUsed(1L, 2L));
+  }
+
+  @Test
+  void attemptsRejectedAtStoreTimeAreCountedAsDeadLettered() {
+    // "b" is refused by the database, whether the two arrive in one batch or two
+    when(batchWriter.insert(anyList())).thenAnswer(invocation -> {
+      List<PendingAttempt> batch = invocation.getArgument(0);
+      int rejected = (int) batch.stream().filter(attempt -> attempt.submissionId().equals("b")).count();
+      return new Outcome(batch.size() - rejected, rejected);
+    });
+
+    writeBehind.submit(1L, 2L, 5, number -> attempt("a", number));
+    writeBehind.submit(1L, 2L, 5, number -> attempt("b", number));
+
+    await(() -> meterRegistry.get("quiz.attempts.write-behind.stored").counter().count()
+        + meterRegistry.get("quiz.attempts.write-behind.dead-lettered").counter().count() >= 2);
+    assertEquals(1.0, meterRegistry.get("quiz.attempts.write-behind.stored").counter().count());
+    assertEquals(1.0, meterRegistry.get("quiz.attempts.write-behind.dead-lettered").counter().count());
+  }
+
+  @Test
+  void rowThatKeepsHittingAConstraintIsDeadLetteredNotDropped() {
+    when(batchWriter.insert(anyList())).thenThrow(new DataIntegrityViolationException("uk_attempt_user_quiz_number"));
+
+    PendingAttempt attempt = writeBehind.submit(1L, 2L, 5, number -> attempt("a", number));
+
+    await(() -> meterRegistry.get("quiz.attempts.write-behind.dead-lettered").counter().count() >= 1);
+    verify(batchWriter).reject(eq(attempt), eq(RejectedAttempt.CONSTRAINT), anyString());
+    // The batch, then the row on its own three times
+    verify(batchWriter, times(4)).insert(any());
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long until = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < until, "Timed out waiting for the writer");
+      Thread.onSpinWait();
+    }
+  }
+
+  private static PendingAttempt attempt(String submissionId, int number) {
+    return new PendingAttempt(submissionId, 1L, 2L, number, 3, 4, 75.0, true, "[]", Instant.now());
+  }
+}
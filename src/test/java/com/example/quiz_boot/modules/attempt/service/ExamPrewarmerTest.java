@@ -0,0 +1,39 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.quiz.exception.QuizNotFoundException;
+import com.example.quiz_boot.modules.quiz.service.QuizService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExamPrewarmerTest {
+
+  private final QuizService quizService = mock(QuizService.class);
+  private final AnswerKeyCache answerKeyCache = mock(AnswerKeyCache.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void warmsContentPayloadAndKeyAndReportsReadiness() {
+    when(quizService.getQuizIdsAvailableFrom(any(), any())).thenReturn(List.of(1L, 2L));
+    doThrow(new QuizNotFoundException("Quiz not found with ID: 2")).when(quizService).warmQuizPayload(2L);
+
+    new ExamPrewarmer(quizService, answerKeyCache, meterRegistry, Duration.ofMinutes(10)).prewarm();
+
+    verify(quizService).warmQuizPayload(1L);
+    verify(answerKeyCache).get(1L);
+    assertEquals(2.0, meterRegistry.get("quiz.prewarm.scheduled").gauge().value());
+    assertEquals(1.0, meterRegistry.get("quiz.prewarm.ready").gauge().value());
+    assertEquals(1.0, meterRegistry.get("quiz.prewarm.failures").counter().count());
+  }
+}
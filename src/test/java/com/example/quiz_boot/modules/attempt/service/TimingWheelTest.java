@@ -0,0 +1,78 @@
+package com.example.quiz_boot.modules.attempt.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  void firesOnTheFirstTickAtOrAfterTheDeadline() {
+    TimingWheel<String> wheel = new TimingWheel<>(1000, 2, 3, 0);
+    wheel.schedule("soon", 2500);
+    wheel.schedule("overdue", -5000);
+
+    assertEquals(List.of("overdue"), wheel.advance(1000));
+    assertEquals(List.of(), wheel.advance(2999));
+    assertEquals(List.of("soon"), wheel.advance(3000));
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void cascadesTimersFromHigherLevelsAndBeyondTheTopRange() {
+    // 4 slots per level, 2 levels: 16 ticks before timers are parked
+    TimingWheel<Integer> wheel = new TimingWheel<>(1, 2, 2, 0);
+    for (int deadline : new int[] { 5, 17, 63, 4, 16 }) {
+      wheel.schedule(deadline, deadline);
+    }
+
+    List<Integer> fired = new ArrayList<>();
+    for (long now = 1; now <= 70; now++) {
+      for (Integer value : wheel.advance(now)) {
+        assertEquals(now, value.longValue());
+        fired.add(value);
+      }
+    }
+    assertEquals(List.of(4, 5, 16, 17, 63), fired);
+  }
+
+  @Test
+  void cancelledTimersNeverFire() {
+    TimingWheel<String> wheel = new TimingWheel<>(1000, 6, 4, 0);
+    TimingWheel.Timer<String> kept = wheel.schedule("kept", 90_000);
+    TimingWheel.Timer<String> cancelled = wheel.schedule("cancelled", 90_000);
+
+    assertTrue(wheel.cancel(cancelled));
+    assertFalse(wheel.cancel(cancelled));
+    assertEquals(List.of("kept"), wheel.advance(90_000));
+    assertFalse(wheel.cancel(kept));
+  }
+
+  @Test
+  void manyTimersEachFireExactlyOnceOnTime() {
+    TimingWheel<Long> wheel = new TimingWheel<>(1000, 6, 4, 0);
+    Random random = new Random(7);
+    int count = 100_000;
+    for (int i = 0; i < count; i++) {
+      // Up to three hours ahead, the longest quiz duration
+      long deadline = random.nextInt(3 * 3600 * 1000);
+      wheel.schedule(deadline, deadline);
+    }
+
+    int fired = 0;
+    for (long now = 0; now <= 3 * 3600 * 1000L; now += 1000) {
+      for (Long deadline : wheel.advance(now)) {
+        // Rounded up to the next whole tick
+        assertEquals(Math.max(1000, (deadline + 999) / 1000 * 1000), now);
+        fired++;
+      }
+    }
+    assertEquals(count, fired);
+  }
+}
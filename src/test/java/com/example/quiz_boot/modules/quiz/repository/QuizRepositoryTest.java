@@ -0,0 +1,280 @@
+package com.example.quiz_boot.modules.quiz.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionSummaryDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizSummaryDto;
+import com.example.quiz_boot.modules.quiz.model.Category;
+import com.example.quiz_boot.modules.quiz.model.Question;
+import com.example.quiz_boot.modules.quiz.model.QuestionOption;
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.quiz.model.QuizCounter;
+import com.example.quiz_boot.modules.user.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class QuizRepositoryTest {
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuizCounterRepository quizCounterRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long largeQuizId;
+
+    private Long categoryId;
+
+    private Long creatorId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = new Category();
+        category.setName("Science");
+        entityManager.persist(category);
+        categoryId = category.getId();
+
+        User creator = new User();
+        creator.setUsername("teacher");
+        creator.setEmail("teacher@example.com");
+        creator.setPassword("secret");
+        creator.setFirstName("Test");
+        creator.setLastName("Teacher");
+        creator.setActive(true);
+        entityManager.persist(creator);
+        creatorId = creator.getId();
+
+        for (int i = 1; i <= 20; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setTitle("Quiz " + i);
+            quiz.setDescription("Description for quiz " + i);
+            quiz.setCategory(category);
+            quiz.setCreator(creator);
+            quiz.setDuration(1);
+            quiz.setPassingScore(50);
+            quiz.setMaxAttempts(1);
+            entityManager.persist(quiz);
+
+            for (int j = 1; j <= i % 4; j++) {
+                Question question = new Question();
+                question.setQuestionText("Question number " + j + " of quiz " + i);
+                question.setQuiz(quiz);
+                question.setQuestionType("MULTIPLE_CHOICE");
+                question.setQuestionOrder(j);
+                question.setPoints(1);
+                entityManager.persist(question);
+            }
+        }
+
+        // One large quiz whose questions and options are persisted out of display order
+        Quiz largeQuiz = new Quiz();
+        largeQuiz.setTitle("Large quiz");
+        largeQuiz.setDescription("Quiz with many questions");
+        largeQuiz.setCategory(category);
+        largeQuiz.setCreator(creator);
+        largeQuiz.setDuration(2);
+        largeQuiz.setPassingScore(60);
+        largeQuiz.setMaxAttempts(3);
+        entityManager.persist(largeQuiz);
+        largeQuizId = largeQuiz.getId();
+
+        for (int j = 50; j >= 1; j--) {
+            Question question = new Question();
+            question.setQuestionText("Large quiz question number " + j);
+            question.setQuiz(largeQuiz);
+            question.setQuestionType("MULTIPLE_CHOICE");
+            question.setQuestionOrder(j);
+            question.setPoints(2);
+            entityManager.persist(question);
+
+            for (int k = 4; k >= 1; k--) {
+                QuestionOption option = new QuestionOption();
+                option.setOptionText("Option " + k);
+                option.setQuestion(question);
+                option.setCorrect(k == 1);
+                option.setOptionOrder(k);
+                entityManager.persist(option);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllSummariesLoadsPageWithoutTouchingAssociations() {
+        Page<QuizSummaryDto> page = quizRepository.findAllSummaries(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(21, page.getTotalElements());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but was " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+
+        QuizSummaryDto first = page.getContent().get(0);
+        assertEquals("Quiz 1", first.getTitle());
+        assertEquals("Science", first.getCategory().getName());
+        assertEquals(1, first.getQuestionCount());
+    }
+
+    @Test
+    void filteredSummariesArePagedInTheDatabase() {
+        Page<QuizSummaryDto> byCategory = quizRepository.findSummariesByCategoryId(categoryId,
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "id")));
+        Page<QuizSummaryDto> byCreator = quizRepository.findSummariesByCreatorId(creatorId,
+                PageRequest.of(4, 5, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertEquals(5, byCategory.getContent().size());
+        assertEquals(21, byCategory.getTotalElements());
+        assertEquals("Quiz 16", byCategory.getContent().get(0).getTitle());
+        assertEquals(1, byCreator.getContent().size());
+        assertEquals("Quiz 1", byCreator.getContent().get(0).getTitle());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void keysetSlicesWalkAllQuizzesWithoutCountQueries() {
+        Pageable pageable = PageRequest.of(0, 5,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        Set<Long> seen = new HashSet<>();
+        int pages = 0;
+
+        Slice<QuizSummaryDto> slice = quizRepository.findSummarySliceWithFilters(null, null, creatorId, pageable);
+        while (true) {
+            pages++;
+            slice.getContent().forEach(summary -> assertTrue(seen.add(summary.getId())));
+            if (!slice.hasNext()) {
+                break;
+            }
+            QuizSummaryDto last = slice.getContent().get(slice.getContent().size() - 1);
+            slice = quizRepository.findSummarySliceWithFiltersBeforeCreatedAt(null, null, creatorId,
+                    last.getCreatedAt(), last.getId(), pageable);
+        }
+
+        assertEquals(21, seen.size());
+        assertEquals(5, pages);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void detailGraphLoadsInTwoStatementsInDisplayOrder() {
+        Quiz quiz = quizRepository.findByIdWithCategory(largeQuizId).orElseThrow();
+        List<Question> questions = questionRepository.findByQuizIdWithOptions(largeQuizId);
+
+        assertEquals("Science", quiz.getCategory().getName());
+        assertEquals(50, questions.size());
+        int totalOptions = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            assertEquals(i + 1, question.getQuestionOrder());
+            assertEquals(largeQuizId, question.getQuiz().getId());
+            List<QuestionOption> options = question.getOptions();
+            for (int k = 0; k < options.size(); k++) {
+                assertEquals(k + 1, options.get(k).getOptionOrder());
+            }
+            totalOptions += options.size();
+        }
+
+        assertEquals(200, totalOptions);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void questionsArePagedAndStreamedPerQuizInDisplayOrder() {
+        Page<Question> page = questionRepository.findByQuizId(largeQuizId,
+                PageRequest.of(2, 10, Sort.by("questionOrder", "id")));
+
+        assertEquals(50, page.getTotalElements());
+        assertEquals(21, page.getContent().get(0).getQuestionOrder());
+        assertTrue(page.getContent().stream().allMatch(q -> q.getQuiz().getId().equals(largeQuizId)));
+
+        List<QuestionSummaryDto> first = questionRepository.findSummariesAfter(largeQuizId, Integer.MIN_VALUE, 0L,
+                PageRequest.of(0, 30));
+        QuestionSummaryDto last = first.get(first.size() - 1);
+        List<QuestionSummaryDto> rest = questionRepository.findSummariesAfter(largeQuizId, last.getQuestionOrder(),
+                last.getId(), PageRequest.of(0, 30));
+        List<Integer> orders = Stream.concat(first.stream(), rest.stream())
+                .map(QuestionSummaryDto::getQuestionOrder).collect(Collectors.toList());
+        assertEquals(50, orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            assertEquals(i + 1, orders.get(i));
+        }
+    }
+
+    @Test
+    void lastModifiedValidatorsLoadNoEntitiesAndFollowTouch() {
+        QuizRepository.LastModifiedView before = quizRepository.findLastModifiedById(largeQuizId).orElseThrow();
+
+        assertTrue(before.getQuizUpdatedAt() != null && before.getCategoryUpdatedAt() != null);
+        assertEquals(creatorId, before.getCreatorId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        Instant touchedAt = before.getQuizUpdatedAt().plusSeconds(60);
+        assertEquals(1, quizRepository.touch(largeQuizId, touchedAt));
+        assertEquals(touchedAt,
+                quizRepository.findLastModifiedById(largeQuizId).orElseThrow().getQuizUpdatedAt());
+        assertTrue(quizRepository.findLastModifiedById(-1L).isEmpty());
+    }
+
+    @Test
+    void counterBackfillSeedsEveryCategoryAndCreatorOnce() {
+        Category empty = new Category();
+        empty.setName("Empty");
+        entityManager.persist(empty);
+        entityManager.flush();
+
+        Instant now = Instant.now();
+        assertEquals(2, quizCounterRepository.seedCategoryCounters(now));
+        assertEquals(1, quizCounterRepository.seedCreatorCounters(now));
+
+        assertEquals(21L, quizCounterRepository.findQuizCount(QuizCounter.CATEGORY, categoryId).orElseThrow());
+        assertEquals(0L, quizCounterRepository.findQuizCount(QuizCounter.CATEGORY, empty.getId()).orElseThrow());
+        assertEquals(21L, quizCounterRepository.findQuizCount(QuizCounter.CREATOR, creatorId).orElseThrow());
+
+        // Existing counters are left alone
+        assertEquals(0, quizCounterRepository.seedCategoryCounters(now));
+        assertEquals(0, quizCounterRepository.seedCreatorCounters(now));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.example.quiz_boot.modules.quiz.mapper.CategoryMapper;
+import com.example.quiz_boot.modules.quiz.model.Category;
+import com.example.quiz_boot.modules.quiz.repository.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CategoryCatalogTest {
+
+  private CategoryRepository categoryRepository;
+  private CategoryCatalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    categoryRepository = mock(CategoryRepository.class);
+    catalog = new CategoryCatalog(categoryRepository, new CategoryMapper(), new ObjectMapper());
+  }
+
+  @Test
+  void servesRepeatReadsFromOneSnapshot() {
+    when(categoryRepository.findAll(any(Sort.class))).thenReturn(List.of(category(1L, "Java")));
+
+    CategoryCatalog.Snapshot first = catalog.current();
+    CategoryCatalog.Snapshot second = catalog.current();
+
+    assertSame(first, second);
+    assertEquals("[{\"id\":1,\"name\":\"Java\"}]", new String(first.json(), StandardCharsets.UTF_8));
+    assertEquals('"', first.etag().charAt(0));
+    verify(categoryRepository, times(1)).findAll(any(Sort.class));
+  }
+
+  @Test
+  void refreshPublishesNewSnapshotWithNewEtag() {
+    when(categoryRepository.findAll(any(Sort.class)))
+        .thenReturn(List.of(category(1L, "Java")))
+        .thenReturn(List.of(category(1L, "Java"), category(2L, "SQL")));
+
+    CategoryCatalog.Snapshot before = catalog.current();
+    catalog.refreshAfterCommit();
+    CategoryCatalog.Snapshot after = catalog.current();
+
+    assertEquals(2, after.categories().size());
+    assertNotEquals(before.etag(), after.etag());
+  }
+
+  private static Category category(Long id, String name) {
+    Category category = new Category();
+    category.setId(id);
+    category.setName(name);
+    return category;
+  }
+}
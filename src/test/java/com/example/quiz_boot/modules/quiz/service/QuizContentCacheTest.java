@@ -0,0 +1,133 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionOptionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuestionResponseDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizDetailDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizOptionDto;
+import com.example.quiz_boot.modules.quiz.dto.response.QuizQuestionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QuizContentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuizContentCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new QuizContentCache(meterRegistry, new ObjectMapper().findAndRegisterModules(), 1024 * 1024, 1024 * 1024);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void servesRepeatReadsFromMemoryAndRecordsMetrics() {
+        QuizContent first = cache.get(1L, this::load);
+        QuizContent second = cache.get(1L, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "quiz.content").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "quiz.content").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+
+        assertNull(cache.getIfPresent(1L));
+        cache.get(1L, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void payloadIsSerializedOnceAndDroppedWithTheQuiz() {
+        byte[] first = cache.getPayload(1L, this::load);
+
+        assertSame(first, cache.getPayload(1L, this::load));
+        assertTrue(new String(first).contains("\"title\":\"Quiz 1\""));
+        assertTrue(new String(first).contains("\"optionText\":\"True\""));
+        // The graded questions are never serialized
+        assertFalse(new String(first).contains("orrect"));
+        assertFalse(new String(first).contains("Because"));
+        assertTrue(cache.isCached(1L));
+
+        cache.invalidate(1L);
+        assertFalse(cache.isCached(1L));
+        cache.getPayload(1L, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void questionsAreLeftOutBeforeTheQuizOpensExceptForCreatorAndAdmins() {
+        Instant now = Instant.now();
+        cache.get(1L, this::load).detail().setAvailableFrom(now.plusSeconds(60));
+
+        byte[] preview = cache.getPayload(1L, this::load, content -> content.isOpenTo(8L, false, now));
+        assertTrue(new String(preview).contains("\"questions\":[]"));
+        // The preview is never cached in place of the full body
+        assertFalse(cache.isCached(1L));
+
+        assertTrue(new String(cache.getPayload(1L, this::load, content -> content.isOpenTo(7L, false, now)))
+                .contains("Sky is blue"));
+        assertTrue(cache.getIfPresent(1L).isOpenTo(null, true, now));
+        assertFalse(cache.getIfPresent(1L).isOpenTo(null, false, now));
+        assertTrue(cache.getIfPresent(1L).isOpenTo(null, false, now.plusSeconds(60)));
+    }
+
+    @Test
+    void invalidationIsForwardedToListeners() {
+        List<Long> invalidated = new ArrayList<>();
+        cache.addInvalidationListener(invalidated::add);
+
+        cache.invalidate(1L);
+        cache.invalidateAll();
+
+        assertEquals(1L, invalidated.get(0));
+        assertNull(invalidated.get(1));
+    }
+
+    @Test
+    void weightGrowsWithQuizContent() {
+        QuizContent small = load(1L);
+        List<QuestionResponseDto> questions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            questions.add(new QuestionResponseDto((long) i, "Question text number " + i, 2L, List.of(),
+                    "MULTIPLE_CHOICE", i + 1, 1, null, true, Instant.now(), Instant.now()));
+        }
+        QuizContent large = new QuizContent(load(2L).detail(), questions, 7L);
+
+        assertTrue(QuizContentCache.estimateWeight(large) > 10 * QuizContentCache.estimateWeight(small));
+    }
+
+    private QuizContent load(Long id) {
+        loads.incrementAndGet();
+        QuizDetailDto detail = new QuizDetailDto(id, "Quiz " + id, "Description", null,
+                List.of(new QuizQuestionDto(10L, "Sky is blue", "TRUE_FALSE", 1, 1, true,
+                        List.of(new QuizOptionDto(11L, "True", 1)))),
+                1, 50, 1, Instant.now(), Instant.now(), null, null);
+        QuestionResponseDto question = new QuestionResponseDto(10L, "Sky is blue", id,
+                List.of(new QuestionOptionResponseDto(11L, "True", true, 1, "Because", Instant.now(), Instant.now())),
+                "TRUE_FALSE", 1, 1, "Because", true, Instant.now(), Instant.now());
+        return new QuizContent(detail, List.of(question), 7L);
+    }
+}
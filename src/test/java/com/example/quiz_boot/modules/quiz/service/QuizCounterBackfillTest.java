@@ -0,0 +1,86 @@
+package com.example.quiz_boot.modules.quiz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.quiz_boot.modules.quiz.model.Category;
+import com.example.quiz_boot.modules.quiz.model.Quiz;
+import com.example.quiz_boot.modules.quiz.model.QuizCounter;
+import com.example.quiz_boot.modules.quiz.repository.CategoryRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizCounterRepository;
+import com.example.quiz_boot.modules.quiz.repository.QuizRepository;
+import com.example.quiz_boot.modules.user.model.User;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+
+// Not transactional: the runner must open its own transaction, as it does at startup
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({ QuizCounterBackfill.class, QuizCounterSeeder.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuizCounterBackfillTest {
+
+  @Autowired
+  private QuizCounterBackfill quizCounterBackfill;
+
+  @Autowired
+  private QuizCounterRepository quizCounterRepository;
+
+  @Autowired
+  private QuizRepository quizRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @AfterEach
+  void cleanUp() {
+    quizCounterRepository.deleteAll();
+    quizRepository.deleteAll();
+    categoryRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void runnerBackfillsCountersOfExistingQuizzes() {
+    User user = new User();
+    user.setUsername("ann");
+    user.setEmail("ann@example.com");
+    user.setPassword("hash");
+    user.setFirstName("Ann");
+    user.setLastName("Lee");
+    user.setActive(true);
+    User creator = userRepository.save(user);
+
+    Category category = new Category();
+    category.setName("Science");
+    category.setDescription("Science quizzes");
+    Category science = categoryRepository.save(category);
+    for (String title : new String[] { "Physics", "Chemistry" }) {
+      Quiz quiz = new Quiz();
+      quiz.setTitle(title);
+      quiz.setDescription(title + " basics");
+      quiz.setCategory(science);
+      quiz.setCreator(creator);
+      quiz.setDuration(1);
+      quiz.setPassingScore(50);
+      quiz.setMaxAttempts(3);
+      quizRepository.save(quiz);
+    }
+
+    quizCounterBackfill.run();
+
+    assertEquals(2L, quizCounterRepository.findQuizCount(QuizCounter.CATEGORY, science.getId()).orElseThrow());
+    assertEquals(2L, quizCounterRepository.findQuizCount(QuizCounter.CREATOR, creator.getId()).orElseThrow());
+  }
+}
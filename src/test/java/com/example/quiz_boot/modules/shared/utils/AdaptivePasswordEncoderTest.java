@@ -0,0 +1,55 @@
+package com.example.quiz_boot.modules.shared.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class AdaptivePasswordEncoderTest {
+
+    @Test
+    void encodesWithAlgorithmAndCostPrefix() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void legacyAndWeakerHashesVerifyButNeedUpgrade() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String weaker = new AdaptivePasswordEncoder(4).encode("secret");
+
+        assertTrue(encoder.matches("secret", legacy));
+        assertTrue(encoder.matches("secret", weaker));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertTrue(encoder.upgradeEncoding(weaker));
+    }
+
+    @Test
+    void strongerOrToleratedHashesAreNotRehashed() {
+        String cost4 = new AdaptivePasswordEncoder(4).encode("secret");
+        String cost6 = new AdaptivePasswordEncoder(6).encode("secret");
+
+        assertFalse(new AdaptivePasswordEncoder(5).upgradeEncoding(cost6));
+        assertFalse(new AdaptivePasswordEncoder(5, 1).upgradeEncoding(cost4));
+        assertTrue(new AdaptivePasswordEncoder(6, 1).upgradeEncoding(cost4));
+    }
+
+    @Test
+    void costDoublesUntilTargetWithinBounds() {
+        long oneMs = Duration.ofMillis(1).toNanos();
+
+        assertEquals(10, AdaptivePasswordEncoder.costFor(Duration.ofMillis(5).toNanos(), oneMs, 10, 14));
+        assertEquals(13, AdaptivePasswordEncoder.costFor(Duration.ofMillis(32).toNanos(), oneMs, 10, 14));
+        assertEquals(14, AdaptivePasswordEncoder.costFor(Duration.ofSeconds(5).toNanos(), oneMs, 10, 14));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.quiz_boot.modules.user.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.quiz_boot.modules.user.dto.response.UserResponseDto;
+import com.example.quiz_boot.modules.user.model.User;
+import com.example.quiz_boot.modules.user.service.UserRoleService;
+
+@ExtendWith(MockitoExtension.class)
+class UserMapperTest {
+
+    @Mock
+    private UserRoleService userRoleService;
+
+    @InjectMocks
+    private UserMapper userMapper;
+
+    @Test
+    void listMappingLoadsRolesOnceForAllUsers() {
+        when(userRoleService.getUserRoles(anyCollection()))
+                .thenReturn(Map.of(1L, Set.of("TEACHER"), 2L, Set.of()));
+
+        List<UserResponseDto> dtos = userMapper.toResponseDtoList(List.of(user(1L, "ann"), user(2L, "ben")));
+
+        assertEquals(Set.of("TEACHER"), dtos.get(0).getRoles());
+        assertEquals(Set.of(), dtos.get(1).getRoles());
+        verify(userRoleService, times(1)).getUserRoles(anyCollection());
+        verify(userRoleService, never()).getUserRoles(anyLong());
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setActive(true);
+        return user;
+    }
+}
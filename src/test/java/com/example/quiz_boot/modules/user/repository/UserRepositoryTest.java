@@ -0,0 +1,63 @@
+package com.example.quiz_boot.modules.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.example.quiz_boot.modules.user.model.User;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(user("alice", "alice@example.com"));
+        entityManager.persist(user("bob", "bob@example.com"));
+        entityManager.flush();
+    }
+
+    @Test
+    void identityConflictsReturnsOwnersOfEitherValue() {
+        List<UserRepository.IdentityView> conflicts = userRepository.findIdentityConflicts("alice", "bob@example.com");
+
+        Set<String> usernames = conflicts.stream()
+                .map(UserRepository.IdentityView::getUsername)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("alice", "bob"), usernames);
+    }
+
+    @Test
+    void identityConflictsEmptyWhenBothFree() {
+        assertTrue(userRepository.findIdentityConflicts("carol", "carol@example.com").isEmpty());
+        assertEquals(1, userRepository.findIdentityConflicts(null, "alice@example.com").size());
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setActive(true);
+        return user;
+    }
+}
@@ -2,13 +2,22 @@ package com.example.quiz_boot.modules.user.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.quiz_boot.modules.shared.utils.JwtUtils;
+import com.example.quiz_boot.modules.shared.utils.JwtVerification;
+
+import io.jsonwebtoken.Claims;
 
 class JwtUtilsTest {
 
@@ -21,6 +30,8 @@ class JwtUtilsTest {
         ReflectionTestUtils.setField(jwtUtils, "jwtSecret",
                 "testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong");
         ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3600000);
+        ReflectionTestUtils.setField(jwtUtils, "refreshExpiration", Duration.ofDays(14));
+        jwtUtils.init();
     }
 
     @Test
@@ -45,4 +56,41 @@ class JwtUtilsTest {
         String invalidToken = "invalid.token.here";
         assertFalse(jwtUtils.validateJwtToken(invalidToken));
     }
+
+    @Test
+    void testSelfContainedClaims() {
+        String token = jwtUtils.generateJwtToken("teacher", 42L, Set.of("TEACHER"), true);
+
+        Claims claims = jwtUtils.getClaimsFromJwtToken(token);
+        assertEquals("teacher", claims.getSubject());
+        assertEquals(42L, claims.get(JwtUtils.CLAIM_USER_ID, Number.class).longValue());
+        assertEquals(List.of("TEACHER"), claims.get(JwtUtils.CLAIM_ROLES, List.class));
+        assertEquals(Boolean.TRUE, claims.get(JwtUtils.CLAIM_ACTIVE, Boolean.class));
+    }
+
+    @Test
+    void testRefreshTokenIsTypedAndDistinctFromAccessToken() {
+        Claims access = jwtUtils.getClaimsFromJwtToken(jwtUtils.generateJwtToken("teacher", 42L, Set.of("TEACHER"), true));
+        Claims refresh = jwtUtils.getClaimsFromJwtToken(jwtUtils.generateRefreshToken("teacher", 42L));
+
+        assertFalse(jwtUtils.isRefreshToken(access));
+        assertTrue(jwtUtils.isRefreshToken(refresh));
+        assertNotNull(access.getId());
+        assertNotEquals(access.getId(), refresh.getId());
+        assertTrue(refresh.getExpiration().after(access.getExpiration()));
+    }
+
+    @Test
+    void testVerifyReturnsFailureInsteadOfThrowing() {
+        String token = jwtUtils.generateJwtToken("testuser");
+
+        JwtVerification valid = jwtUtils.verify(token);
+        assertTrue(valid.isValid());
+        assertEquals("testuser", valid.claims().getSubject());
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertEquals(JwtVerification.Failure.INVALID_SIGNATURE, jwtUtils.verify(tampered).failure());
+        assertEquals(JwtVerification.Failure.MALFORMED, jwtUtils.verify("invalid.token.here").failure());
+        assertEquals(JwtVerification.Failure.EMPTY, jwtUtils.verify("").failure());
+    }
 }
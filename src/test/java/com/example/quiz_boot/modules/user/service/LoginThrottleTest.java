@@ -0,0 +1,71 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.user.exception.LoginThrottledException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(meterRegistry, 3, Duration.ofMinutes(1), 5, Duration.ofMinutes(1), 1000);
+    }
+
+    @Test
+    void usernameBucketRejectsAfterCapacityRegardlessOfCase() {
+        loginThrottle.acquire("Alice", "10.0.0.1");
+        loginThrottle.acquire("alice", "10.0.0.2");
+        loginThrottle.acquire(" ALICE ", "10.0.0.3");
+
+        LoginThrottledException e = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire("alice", "10.0.0.4"));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> loginThrottle.acquire("bob", "10.0.0.4"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("key", "username").counter().count());
+    }
+
+    @Test
+    void ipBucketRejectsSprayAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i, "10.0.0.9");
+        }
+
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("user9", "10.0.0.9"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void ipLimitingIsOffWithZeroCapacity() {
+        LoginThrottle unlimitedIp = new LoginThrottle(meterRegistry, 3, Duration.ofMinutes(1), 0,
+                Duration.ofMinutes(1), 1000);
+
+        // A class behind one NAT address
+        for (int i = 0; i < 500; i++) {
+            unlimitedIp.acquire("student" + i, "10.0.0.9");
+        }
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        LoginThrottle.Limiter limiter = new LoginThrottle.Limiter(1, Duration.ofMillis(50), 10);
+
+        assertEquals(0, limiter.tryAcquire("key"));
+        assertTrue(limiter.tryAcquire("key") > 0);
+        Thread.sleep(60);
+        assertEquals(0, limiter.tryAcquire("key"));
+    }
+}
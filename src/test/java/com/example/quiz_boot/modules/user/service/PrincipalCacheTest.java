@@ -0,0 +1,57 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        principalCache = new PrincipalCache(username -> {
+            loads.incrementAndGet();
+            if (!"alice".equals(username)) {
+                throw new UsernameNotFoundException("User Not Found with username: " + username);
+            }
+            return new UserPrincipal(1L, "alice", "alice@example.com", "hash", true,
+                    List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        }, meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void repeatLookupsAreServedFromCacheWithoutPassword() {
+        UserPrincipal first = principalCache.get("alice");
+        UserPrincipal second = principalCache.get("alice");
+
+        assertSame(first, second);
+        assertNull(first.getPassword());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "security.principals")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void unknownUsersAreNotCached() {
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("bob"));
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("bob"));
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.user.model.Role;
+import com.example.quiz_boot.modules.user.repository.RoleRepository;
+
+class RoleRegistryTest {
+
+    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(role(3L, "ADMIN"), role(1L, "STUDENT"), role(2L, "TEACHER")));
+        roleRegistry = new RoleRegistry(roleRepository);
+    }
+
+    @Test
+    void rolesMapToIdsAndBitsInIdOrder() {
+        assertEquals(Optional.of(2L), roleRegistry.idOf("TEACHER"));
+        assertEquals(Optional.empty(), roleRegistry.idOf("OWNER"));
+        assertEquals(List.of("STUDENT", "TEACHER", "ADMIN"), roleRegistry.roleNames());
+
+        long mask = roleRegistry.maskOfIds(List.of(1L, 3L));
+        assertEquals(0b101L, mask);
+        assertTrue(roleRegistry.hasRole(mask, "ADMIN"));
+        assertFalse(roleRegistry.hasRole(mask, "TEACHER"));
+        assertFalse(roleRegistry.hasRole(mask, "OWNER"));
+        assertEquals(Set.of("STUDENT", "ADMIN"), roleRegistry.namesOf(mask));
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void unknownRoleIdReloadsOnce() {
+        roleRegistry.roleNames();
+        when(roleRepository.findAll()).thenReturn(
+                List.of(role(1L, "STUDENT"), role(2L, "TEACHER"), role(3L, "ADMIN"), role(4L, "REVIEWER")));
+
+        long mask = roleRegistry.maskOfIds(List.of(4L));
+
+        assertTrue(roleRegistry.hasRole(mask, "REVIEWER"));
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void danglingRoleIdReloadsOnceUntilNextRefresh() {
+        roleRegistry.roleNames();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0b001L, roleRegistry.maskOfIds(List.of(1L, 9L)));
+        }
+        verify(roleRepository, times(2)).findAll();
+
+        roleRegistry.refresh();
+        roleRegistry.maskOfIds(List.of(9L));
+        verify(roleRepository, times(4)).findAll();
+    }
+
+    private static Role role(Long id, String name) {
+        Role role = new Role();
+        role.setId(id);
+        role.setName(name);
+        role.setDescription(name);
+        return role;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.quiz_boot.modules.user.model.RevokedToken;
+import com.example.quiz_boot.modules.user.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository repository;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        service = new TokenRevocationService(repository, new SimpleMeterRegistry(), 1_000, 0.001);
+    }
+
+    @Test
+    void unrevokedTokensAreClearedWithoutDatabaseOnceLoaded() {
+        when(repository.findActiveJtis(any())).thenReturn(List.of("revoked-1"));
+        service.rebuild();
+
+        assertFalse(service.isRevoked("fresh-token"));
+        verify(repository, never()).existsByJti("fresh-token");
+
+        when(repository.existsByJti("revoked-1")).thenReturn(true);
+        assertTrue(service.isRevoked("revoked-1"));
+    }
+
+    @Test
+    void revokeRecordsOnceAndUpdatesFilter() {
+        when(repository.findActiveJtis(any())).thenReturn(List.of());
+        service.rebuild();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertTrue(service.revoke("jti-1", "alice", expiresAt));
+        verify(repository).save(any(RevokedToken.class));
+
+        when(repository.existsByJti("jti-1")).thenReturn(true);
+        assertTrue(service.isRevoked("jti-1"));
+        assertFalse(service.revoke("jti-1", "alice", expiresAt));
+        assertFalse(service.revoke("jti-2", "alice", Instant.now().minusSeconds(1)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.quiz_boot.modules.user.model.Role;
+import com.example.quiz_boot.modules.user.model.User;
+import com.example.quiz_boot.modules.user.repository.RoleRepository;
+import com.example.quiz_boot.modules.user.repository.UserRepository;
+import com.example.quiz_boot.modules.user.repository.UserRoleRepository;
+
+// Not transactional: the writer commits in its own transaction
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(UserBatchWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserBatchWriterTest {
+
+    @Autowired
+    private UserBatchWriter userBatchWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @AfterEach
+    void cleanUp() {
+        userRoleRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void insertsUsersAndRoleLinksInBatches() {
+        Role role = new Role();
+        role.setName("STUDENT");
+        role.setDescription("Student");
+        Long roleId = roleRepository.save(role).getId();
+
+        userBatchWriter.insert(List.of(
+                new UserBatchWriter.NewUser("ann", "ann@example.com", "h1", "Ann", "Lee", roleId),
+                new UserBatchWriter.NewUser("ben", "ben@example.com", "h2", "Ben", "Ray", roleId)));
+
+        User ann = userRepository.findByUsername("ann").orElseThrow();
+        assertTrue(ann.isActive());
+        assertEquals("Lee", ann.getLastName());
+        assertEquals(List.of(roleId), userRoleRepository.findRoleIdsByUsername("ben"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.quiz_boot.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsCsvByHeaderWithQuotedCells() throws IOException {
+        String csv = "email,username,password,firstName,lastName\n"
+                + "\n"
+                + "\"jane@example.com\",jane,\"Pa,ss\"\"1\",Jane,Doe\n"
+                + "broken@example.com,\"broken\n";
+
+        try (UserImportReader reader = reader(csv, UserImportReader.Format.CSV)) {
+            UserImportReader.Row row = reader.next();
+            assertEquals(3, row.line());
+            assertEquals("jane", row.user().getUsername());
+            assertEquals("jane@example.com", row.user().getEmail());
+            assertEquals("Pa,ss\"1", row.user().getPassword());
+            assertNull(row.user().getRole());
+
+            UserImportReader.Row broken = reader.next();
+            assertNull(broken.user());
+            assertNotNull(broken.error());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsCsvHeaderWithoutRequiredColumns() throws IOException {
+        try (UserImportReader reader = reader("username,email\nx,y\n", UserImportReader.Format.CSV)) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+    @Test
+    void readsNdjsonLines() throws IOException {
+        String ndjson = "{\"username\":\"sam\",\"email\":\"sam@example.com\",\"password\":\"p\",\"role\":\"teacher\"}\n"
+                + "not json\n";
+
+        try (UserImportReader reader = reader(ndjson, UserImportReader.Format.NDJSON)) {
+            UserImportReader.Row row = reader.next();
+            assertEquals("sam", row.user().getUsername());
+            assertEquals("teacher", row.user().getRole());
+            assertNull(row.user().getFirstName());
+
+            assertNull(reader.next().user());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void splitsCsvCells() {
+        assertEquals(List.of("a", "", "b,c"), UserImportReader.splitCsv("a,,\"b,c\""));
+        assertNull(UserImportReader.splitCsv("\"open"));
+    }
+
+    private UserImportReader reader(String input, UserImportReader.Format format) {
+        return new UserImportReader(new StringReader(input), format, objectMapper);
+    }
+}